@@ -1,6 +1,8 @@
 package com.badice;
 
 import com.badice.presentation.controller.GameController;
+import com.badice.presentation.controller.ReplayViewer;
+import com.badice.presentation.headless.HeadlessRunner;
 
 import javax.swing.SwingUtilities;
 
@@ -8,7 +10,19 @@ import javax.swing.SwingUtilities;
  * Punto de entrada principal del juego Bad Dopo Cream.
  */
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
+        // Simulación sin ventana (ver HeadlessRunner)
+        if (java.util.Arrays.asList(args).contains("--headless")) {
+            HeadlessRunner.main(args);
+            return;
+        }
+
+        // Ver una repetición en la ventana (ver ReplayViewer)
+        if (java.util.Arrays.asList(args).contains("--replay")) {
+            ReplayViewer.main(args);
+            return;
+        }
+
         // Ejecutar en el Event Dispatch Thread de Swing
         SwingUtilities.invokeLater(() -> {
             GameController controller = new GameController();
@@ -5,12 +5,16 @@ import java.util.*;
 
 /**
  * Configuración de un nivel cargado desde archivo externo.
+ * <p>
+ * Tras {@link #freeze()} es inmutable y puede compartirse entre partidas que
+ * se ejecutan en hilos distintos (ver {@code LevelCache}).
  */
 public class LevelConfig {
     private int mapWidth;
     private int mapHeight;
     private int totalPhases;
     private List<PhaseConfig> phases;
+    private boolean frozen;
 
     public LevelConfig() {
         this.phases = new ArrayList<>();
@@ -21,6 +25,7 @@ public class LevelConfig {
     }
 
     public void setMapWidth(int mapWidth) {
+        checkNotFrozen();
         this.mapWidth = mapWidth;
     }
 
@@ -29,6 +34,7 @@ public class LevelConfig {
     }
 
     public void setMapHeight(int mapHeight) {
+        checkNotFrozen();
         this.mapHeight = mapHeight;
     }
 
@@ -37,6 +43,7 @@ public class LevelConfig {
     }
 
     public void setTotalPhases(int totalPhases) {
+        checkNotFrozen();
         this.totalPhases = totalPhases;
     }
 
@@ -45,15 +52,43 @@ public class LevelConfig {
     }
 
     public void addPhase(PhaseConfig phase) {
+        checkNotFrozen();
         this.phases.add(phase);
     }
 
+    /**
+     * Hace la configuración (y sus fases) de solo lectura. A partir de aquí
+     * cualquier modificación lanza {@link IllegalStateException} o
+     * {@link UnsupportedOperationException}.
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        for (PhaseConfig phase : phases) {
+            phase.freeze();
+        }
+        phases = Collections.unmodifiableList(phases);
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("La configuración del nivel es de solo lectura");
+        }
+    }
+
     /**
      * Configuración de una fase dentro de un nivel.
      */
     public static class PhaseConfig {
         private int phaseNumber;
         private List<EntityConfig> entities;
+        private boolean frozen;
 
         public PhaseConfig(int phaseNumber) {
             this.phaseNumber = phaseNumber;
@@ -69,8 +104,16 @@ public class LevelConfig {
         }
 
         public void addEntity(EntityConfig entity) {
+            if (frozen) {
+                throw new IllegalStateException("La configuración de la fase es de solo lectura");
+            }
             this.entities.add(entity);
         }
+
+        void freeze() {
+            entities = Collections.unmodifiableList(entities);
+            frozen = true;
+        }
     }
 
     /**
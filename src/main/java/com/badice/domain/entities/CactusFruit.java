@@ -6,23 +6,32 @@ package com.badice.domain.entities;
  * El usuario tenia 30000ms. Lo mantengo.
  */
 public class CactusFruit extends Fruit {
+    // Valor implícito de versiones anteriores, para seguir leyendo partidas guardadas
+    private static final long serialVersionUID = 8106078849494675713L;
     private static final long STATE_CHANGE_INTERVAL = 5000; // REDUCIDO A 5s para prueba (antes 30000)
     private long lastStateChangeTime;
     private boolean isDangerous;
 
     public CactusFruit(Position position) {
         super(position, "cactus", 250); // 250 puntos
-        this.lastStateChangeTime = System.currentTimeMillis();
+        this.lastStateChangeTime = -1; // Se toma en la primera actualización
         this.isDangerous = false; // Empieza seguro
     }
 
+    @Override
+    protected void onAttached() {
+        scheduleUpdate(0);
+    }
+
     @Override
     protected void doUpdate() {
-        long currentTime = System.currentTimeMillis();
+        lastStateChangeTime = stampOrNow(lastStateChangeTime);
+        long currentTime = now();
         if (currentTime - lastStateChangeTime >= STATE_CHANGE_INTERVAL) {
             isDangerous = !isDangerous;
             lastStateChangeTime = currentTime;
         }
+        scheduleUpdate(STATE_CHANGE_INTERVAL - (currentTime - lastStateChangeTime));
     }
 
     public boolean isDangerous() {
@@ -7,11 +7,13 @@ package com.badice.domain.entities;
  * a encenderse en 10 seg).
  */
 public class Campfire extends Block {
+    // Valor implícito de versiones anteriores, para seguir leyendo partidas guardadas
+    private static final long serialVersionUID = -6139084154099122647L;
     private static final long EXTINGUISH_DURATION = 10000; // 10 segundos
     private static final String ENTITY_TYPE = "CAMPFIRE";
 
     private boolean isLit; // true = encendida (peligrosa), false = apagada (segura)
-    private long extinguishedTime; // Momento en que se apagó
+    private long extinguishedTime; // Momento en que se apagó (hora de juego)
 
     public Campfire(Position position) {
         super(position, "campfire");
@@ -23,13 +25,23 @@ public class Campfire extends Block {
         return isLit;
     }
 
+    @Override
+    protected void onAttached() {
+        if (!isLit) {
+            scheduleUpdate(0);
+        }
+    }
+
     @Override
     protected void doUpdate() {
         // Si está apagada, verificar si debe volver a encenderse
-        if (!isLit && extinguishedTime > 0) {
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - extinguishedTime >= EXTINGUISH_DURATION) {
+        if (!isLit) {
+            extinguishedTime = stampOrNow(extinguishedTime);
+            long elapsed = now() - extinguishedTime;
+            if (elapsed >= EXTINGUISH_DURATION) {
                 relight();
+            } else {
+                scheduleUpdate(EXTINGUISH_DURATION - elapsed);
             }
         }
     }
@@ -40,7 +52,8 @@ public class Campfire extends Block {
     public void extinguish() {
         if (isLit) {
             this.isLit = false;
-            this.extinguishedTime = System.currentTimeMillis();
+            this.extinguishedTime = now();
+            scheduleUpdate(EXTINGUISH_DURATION);
         }
     }
 
@@ -86,7 +99,7 @@ public class Campfire extends Block {
         if (isLit) {
             return 0;
         }
-        long elapsed = System.currentTimeMillis() - extinguishedTime;
+        long elapsed = now() - stampOrNow(extinguishedTime);
         long remaining = EXTINGUISH_DURATION - elapsed;
         return Math.max(0, remaining);
     }
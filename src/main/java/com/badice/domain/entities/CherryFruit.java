@@ -1,10 +1,14 @@
 package com.badice.domain.entities;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Cereza: Fruta que cambia de posición aleatoriamente.
  * Otorga 150 puntos.
  */
 public class CherryFruit extends Fruit {
+    // Valor implícito de versiones anteriores, para seguir leyendo partidas guardadas
+    private static final long serialVersionUID = 8102296142002009820L;
     private static final long TELEPORT_INTERVAL = 5000; // 5 segundos
     private long lastTeleportTime;
     private final GameMap gameMap;
@@ -12,29 +16,37 @@ public class CherryFruit extends Fruit {
     public CherryFruit(Position position, GameMap gameMap) {
         super(position, "cereza", 150);
         this.gameMap = gameMap;
-        this.lastTeleportTime = System.currentTimeMillis();
+        this.lastTeleportTime = -1; // Se toma en la primera actualización
+    }
+
+    @Override
+    protected void onAttached() {
+        scheduleUpdate(0);
     }
 
     @Override
     protected void doUpdate() {
-        long currentTime = System.currentTimeMillis();
+        lastTeleportTime = stampOrNow(lastTeleportTime);
+        long currentTime = now();
 
         if (currentTime - lastTeleportTime >= TELEPORT_INTERVAL) {
             teleport();
             lastTeleportTime = currentTime;
         }
+        scheduleUpdate(TELEPORT_INTERVAL - (currentTime - lastTeleportTime));
     }
 
     private void teleport() {
         // Encontrar una posición vacía aleatoria
         // Por simplicidad, intentaremos 10 veces encontrar una posición válida
+        RandomGenerator random = gameMap.getRandom();
         for (int i = 0; i < 10; i++) {
-            int x = (int) (Math.random() * gameMap.getWidth());
-            int y = (int) (Math.random() * gameMap.getHeight());
+            int x = random.nextInt(gameMap.getWidth());
+            int y = random.nextInt(gameMap.getHeight());
             Position newPos = new Position(x, y);
 
             if (isValidTeleportPosition(newPos)) {
-                this.position = newPos;
+                setPosition(newPos);
                 break;
             }
         }
@@ -45,9 +57,7 @@ public class CherryFruit extends Fruit {
         if (!gameMap.isValidPosition(pos)) return false;
 
         // Verificar colisiones con otras entidades sólidas
-        return gameMap.getEntities().stream()
-                .filter(GameEntity::isActive)
-                .noneMatch(e -> e.getPosition().equals(pos) && (e instanceof com.badice.domain.interfaces.Collidable && ((com.badice.domain.interfaces.Collidable) e).isSolid()));
+        return !gameMap.isPositionBlocked(pos);
     }
 
     @Override
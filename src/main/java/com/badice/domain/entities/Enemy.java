@@ -8,6 +8,8 @@ import com.badice.domain.interfaces.MovementPattern;
  * Representa un enemigo en el juego.
  */
 public abstract class Enemy extends GameEntity implements Movable, Collidable {
+    // Valor implícito de versiones anteriores, para seguir leyendo partidas guardadas
+    private static final long serialVersionUID = 2974994623235680317L;
     private static final int DEFAULT_SPEED = 1;
     private static final String ENTITY_TYPE = "ENEMY";
 
@@ -27,7 +29,7 @@ public abstract class Enemy extends GameEntity implements Movable, Collidable {
     @Override
     public void move(Direction direction) {
         this.currentDirection = direction;
-        this.position = position.move(direction);
+        setPosition(position.move(direction));
     }
 
     @Override
@@ -75,6 +77,11 @@ public abstract class Enemy extends GameEntity implements Movable, Collidable {
         // La lógica de colisión específica se maneja en el CollisionDetector
     }
 
+    @Override
+    protected boolean updatesEveryTick() {
+        return true;
+    }
+
     @Override
     protected void doUpdate() {
         if (movementPattern != null) {
@@ -0,0 +1,251 @@
+package com.badice.domain.entities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Almacenamiento interno de una colección de entidades del mapa (slot map).
+ * <p>
+ * Cada entidad guarda su posición en el arreglo denso, así que añadir,
+ * comprobar pertenencia y eliminar son O(1); la eliminación mueve el último
+ * elemento al hueco. La lista principal del mapa además asigna a cada entidad
+ * un handle estable (índice + generación) que no cambia al compactar. Una
+ * entidad puede estar a la vez en la lista principal, en una por tipo y en la
+ * de entidades despiertas; cada una usa su propio campo de posición.
+ * <p>
+ * Las eliminaciones desde el mapa solo marcan la entidad; se aplican en la
+ * limpieza del final del tick para que las vistas puedan recorrerse con
+ * seguridad.
+ */
+final class EntityList<T extends GameEntity> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int SLOT = 0;
+    private static final int TYPED_SLOT = 1;
+    private static final int AWAKE_SLOT = 2;
+
+    private final int slotField; // campo de GameEntity con la posición
+    private final boolean primary; // asigna handles
+    private final boolean ordered; // conserva el orden al eliminar
+    private final EntityView<T> view;
+
+    private GameEntity[] items = new GameEntity[INITIAL_CAPACITY];
+    private int size;
+    private int pendingCount;
+
+    // Tabla de handles (solo lista principal): índice -> posición densa
+    private int[] handleSlots;
+    private int[] generations;
+    private int[] freeHandles;
+    private int freeCount;
+    private int handleCount;
+
+    private EntityList(int slotField, boolean ordered) {
+        this.slotField = slotField;
+        this.primary = slotField == SLOT;
+        this.ordered = ordered;
+        this.view = new EntityView<>(this);
+        if (primary) {
+            this.handleSlots = new int[INITIAL_CAPACITY];
+            this.generations = new int[INITIAL_CAPACITY];
+            this.freeHandles = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Lista con todas las entidades del mapa; asigna handles estables.
+     */
+    static <T extends GameEntity> EntityList<T> primary() {
+        return new EntityList<>(SLOT, false);
+    }
+
+    /**
+     * Lista por tipo; la eliminación no conserva el orden.
+     */
+    static <T extends GameEntity> EntityList<T> typed() {
+        return new EntityList<>(TYPED_SLOT, false);
+    }
+
+    /**
+     * Lista por tipo que conserva el orden de inserción (jugadores).
+     */
+    static <T extends GameEntity> EntityList<T> ordered() {
+        return new EntityList<>(TYPED_SLOT, true);
+    }
+
+    /**
+     * Conjunto de entidades despiertas (las que se actualizan en cada tick).
+     */
+    static <T extends GameEntity> EntityList<T> awake() {
+        return new EntityList<>(AWAKE_SLOT, false);
+    }
+
+    EntityView<T> view() {
+        return view;
+    }
+
+    void addAll(List<T> initial) {
+        for (T entity : initial) {
+            add(entity);
+        }
+    }
+
+    void add(T entity) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        if (primary) {
+            entity.handle = allocateHandle(size);
+        }
+        place(entity, size);
+        size++;
+    }
+
+    boolean contains(GameEntity entity) {
+        int slot = slotOf(entity);
+        return slot >= 0 && slot < size && items[slot] == entity;
+    }
+
+    /**
+     * Elimina físicamente una entidad. No debe llamarse mientras se recorre
+     * una vista.
+     */
+    boolean remove(GameEntity entity) {
+        if (!contains(entity)) {
+            return false;
+        }
+        int slot = slotOf(entity);
+        int last = size - 1;
+        if (ordered) {
+            for (int i = slot; i < last; i++) {
+                place(rawGet(i + 1), i);
+            }
+        } else if (slot != last) {
+            place(rawGet(last), slot);
+        }
+        items[last] = null;
+        size--;
+
+        setSlot(entity, -1);
+        if (entity.pendingRemoval) {
+            pendingCount--;
+        }
+        if (primary) {
+            releaseHandle(entity.handle);
+            entity.handle = -1;
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene la entidad de un handle, o null si ya no está en la lista.
+     */
+    T get(long handle) {
+        int index = (int) handle;
+        if (!primary || handle < 0 || index >= handleCount
+                || generations[index] != (int) (handle >>> 32)) {
+            return null;
+        }
+        int slot = handleSlots[index];
+        return slot < 0 ? null : rawGet(slot);
+    }
+
+    /**
+     * Registra que una entidad de esta colección quedó pendiente de eliminación.
+     */
+    void onMarkedForRemoval() {
+        pendingCount++;
+    }
+
+    /**
+     * Registra que una entidad pendiente de eliminación volvió al mapa.
+     */
+    void onRemovalCancelled() {
+        pendingCount--;
+    }
+
+    int liveCount() {
+        return size - pendingCount;
+    }
+
+    int rawSize() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    T rawGet(int index) {
+        return (T) items[index];
+    }
+
+    /**
+     * Copia de las entidades vivas, para la API heredada y la serialización.
+     */
+    List<T> copy() {
+        List<T> copy = new ArrayList<>(liveCount());
+        for (int i = 0; i < size; i++) {
+            T entity = rawGet(i);
+            if (!entity.pendingRemoval) {
+                copy.add(entity);
+            }
+        }
+        return copy;
+    }
+
+    // --- Slots y handles ---
+
+    private void place(GameEntity entity, int slot) {
+        items[slot] = entity;
+        setSlot(entity, slot);
+        if (primary) {
+            handleSlots[(int) entity.handle] = slot;
+        }
+    }
+
+    private int slotOf(GameEntity entity) {
+        switch (slotField) {
+            case SLOT:
+                return entity.slot;
+            case TYPED_SLOT:
+                return entity.typedSlot;
+            default:
+                return entity.awakeSlot;
+        }
+    }
+
+    private void setSlot(GameEntity entity, int slot) {
+        switch (slotField) {
+            case SLOT:
+                entity.slot = slot;
+                break;
+            case TYPED_SLOT:
+                entity.typedSlot = slot;
+                break;
+            default:
+                entity.awakeSlot = slot;
+        }
+    }
+
+    private long allocateHandle(int slot) {
+        int index;
+        if (freeCount > 0) {
+            index = freeHandles[--freeCount];
+        } else {
+            if (handleCount == handleSlots.length) {
+                handleSlots = Arrays.copyOf(handleSlots, handleCount * 2);
+                generations = Arrays.copyOf(generations, handleCount * 2);
+                freeHandles = Arrays.copyOf(freeHandles, handleCount * 2);
+            }
+            index = handleCount++;
+        }
+        handleSlots[index] = slot;
+        return ((long) generations[index] << 32) | index;
+    }
+
+    private void releaseHandle(long handle) {
+        int index = (int) handle;
+        handleSlots[index] = -1;
+        generations[index] = (generations[index] + 1) & Integer.MAX_VALUE;
+        freeHandles[freeCount++] = index;
+    }
+}
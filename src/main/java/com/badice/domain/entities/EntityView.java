@@ -0,0 +1,79 @@
+package com.badice.domain.entities;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Vista de solo lectura, sin copia, sobre una colección de entidades del mapa.
+ * <p>
+ * Es segura frente a cambios durante el recorrido: las eliminaciones se
+ * difieren hasta la limpieza del final del tick (las entidades eliminadas se
+ * saltan) y las entidades añadidas durante un recorrido no se visitan en él.
+ */
+public final class EntityView<T extends GameEntity> implements Iterable<T> {
+    private final EntityList<T> list;
+
+    EntityView(EntityList<T> list) {
+        this.list = list;
+    }
+
+    /**
+     * Número de entidades vivas (no eliminadas) en la colección.
+     */
+    public int size() {
+        return list.liveCount();
+    }
+
+    public boolean isEmpty() {
+        return list.liveCount() == 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ViewIterator();
+    }
+
+    /**
+     * Recorre la colección sin crear un iterador.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        int end = list.rawSize();
+        for (int i = 0; i < end; i++) {
+            T entity = list.rawGet(i);
+            if (!entity.pendingRemoval) {
+                action.accept(entity);
+            }
+        }
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private final class ViewIterator implements Iterator<T> {
+        private final int end = list.rawSize();
+        private int cursor;
+
+        @Override
+        public boolean hasNext() {
+            // El salto de eliminadas se hace aquí para ver las eliminaciones
+            // hechas durante el recorrido
+            while (cursor < end && list.rawGet(cursor).pendingRemoval) {
+                cursor++;
+            }
+            return cursor < end;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return list.rawGet(cursor++);
+        }
+    }
+}
@@ -34,7 +34,7 @@ public abstract class Fruit extends GameEntity implements Collidable {
 
     public void collect() {
         this.collected = true;
-        this.active = false;
+        setActive(false);
     }
 
     @Override
@@ -0,0 +1,66 @@
+package com.badice.domain.entities;
+
+import com.badice.domain.config.GameConfig;
+
+/**
+ * Reloj de la simulación. Solo avanza cuando el motor ejecuta un tick, así que
+ * la partida puede simularse más rápido (o más lento) que el tiempo real y
+ * siempre de forma determinista.
+ * <p>
+ * El motor es su dueño y lo comparte con el mapa; las entidades lo leen a
+ * través de su mapa (ver {@link GameEntity#now()}).
+ */
+public final class GameClock {
+    private final long tickMillis;
+    private long ticks;
+
+    public GameClock() {
+        this(GameConfig.GAME_TICK_RATE);
+    }
+
+    /**
+     * @param tickMillis milisegundos de juego que dura cada tick
+     */
+    public GameClock(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("La duración del tick debe ser positiva: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * Avanza un tick.
+     */
+    public void advance() {
+        ticks++;
+    }
+
+    /**
+     * Avanza varios ticks de golpe.
+     */
+    public void advance(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("No se puede retroceder el reloj: " + count);
+        }
+        ticks += count;
+    }
+
+    public void reset() {
+        ticks = 0;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Tiempo de juego transcurrido en milisegundos.
+     */
+    public long currentTimeMillis() {
+        return ticks * tickMillis;
+    }
+}
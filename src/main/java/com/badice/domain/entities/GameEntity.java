@@ -1,6 +1,9 @@
 package com.badice.domain.entities;
 
-import java.util.UUID;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 
 /**
@@ -9,17 +12,124 @@ import java.io.Serializable;
  */
 public abstract class GameEntity implements Serializable {
     private static final long serialVersionUID = 1L;
-    protected final String id;
+
+    /** Id de una entidad que todavía no se ha añadido a ningún mapa. */
+    public static final long UNASSIGNED_ID = -1;
+
+    // Se sigue escribiendo el id como texto para mantener el formato de guardado
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("id", String.class),
+            new ObjectStreamField("position", Position.class),
+            new ObjectStreamField("active", boolean.class)
+    };
+
+    // Asignado por el mapa al añadir la entidad (ver GameMap#addEntity)
+    long id = UNASSIGNED_ID;
     protected Position position;
     protected boolean active;
 
+    // Estado del índice de ocupación del mapa propietario (ver GameMap)
+    transient GameMap owner;
+    transient GameEntity nextInCell;
+    transient int indexedCell = -1;
+    transient boolean indexedSolid;
+    transient boolean pendingRemoval;
+    transient boolean queuedForCleanup;
+
+    // Posiciones en el almacenamiento del mapa (ver EntityList)
+    transient int slot = -1;
+    transient int typedSlot = -1;
+    transient long handle = -1;
+    transient int awakeSlot = -1;
+    transient boolean awake; // quiere actualizarse en cada tick
+
+    // Temporizador pendiente en la rueda del mapa (ver TimerWheel)
+    transient long timerDeadline = TimerWheel.NOT_SCHEDULED;
+    transient GameEntity timerPrev;
+    transient GameEntity timerNext;
+
     public GameEntity(Position position) {
-        this.id = UUID.randomUUID().toString();
         this.position = position;
         this.active = true;
     }
 
+    /**
+     * Hora de juego en milisegundos según el reloj del mapa, o 0 si la entidad
+     * no está en ningún mapa.
+     */
+    protected long now() {
+        return owner != null ? owner.getClock().currentTimeMillis() : 0;
+    }
+
+    /**
+     * Marca de tiempo efectiva: la hora actual si la marca aún no se ha tomado
+     * (negativa) o es posterior a la hora actual, como las guardadas con la
+     * hora del sistema o con el reloj de otra partida.
+     */
+    protected long stampOrNow(long timestamp) {
+        long now = now();
+        return timestamp < 0 || timestamp > now ? now : timestamp;
+    }
+
+    /**
+     * Programa una llamada a {@link #update()} dentro de {@code delayMillis}
+     * milisegundos de juego (como mínimo el siguiente tick). Sin efecto si la
+     * entidad no está en un mapa; {@link #onAttached()} debe volver a
+     * programarla.
+     */
+    protected final void scheduleUpdate(long delayMillis) {
+        if (owner != null) {
+            owner.scheduleUpdate(this, delayMillis);
+        }
+    }
+
+    /**
+     * Indica si la entidad tiene comportamiento propio en cada tick. Las demás
+     * duermen: el mapa solo las actualiza cuando vence un temporizador suyo
+     * (ver {@link #scheduleUpdate(long)}) o mientras estén despiertas (ver
+     * {@link #wake()}).
+     */
+    protected boolean updatesEveryTick() {
+        return false;
+    }
+
+    /**
+     * Se llama cuando la entidad entra en un mapa (también al cargar una
+     * partida). Las entidades temporizadas programan aquí su transición.
+     */
+    protected void onAttached() {
+    }
+
+    /**
+     * Pide al mapa que actualice la entidad en cada tick hasta que llame a
+     * {@link #sleep()}.
+     */
+    protected final void wake() {
+        if (owner != null) {
+            owner.wake(this);
+        }
+    }
+
+    /**
+     * Deja de actualizarse en cada tick (a partir del siguiente).
+     */
+    protected final void sleep() {
+        if (owner != null) {
+            owner.sleep(this);
+        }
+    }
+
+    /**
+     * Id en forma de texto, para logs.
+     */
     public String getId() {
+        return Long.toString(id);
+    }
+
+    /**
+     * Id numérico asignado por el mapa, o {@link #UNASSIGNED_ID}.
+     */
+    public long getNumericId() {
         return id;
     }
 
@@ -27,8 +137,15 @@ public abstract class GameEntity implements Serializable {
         return position;
     }
 
+    /**
+     * Cambia la posición de la entidad y actualiza el índice del mapa.
+     * Todo cambio de posición debe pasar por aquí.
+     */
     public void setPosition(Position position) {
         this.position = position;
+        if (owner != null) {
+            owner.onEntityChanged(this);
+        }
     }
 
     public boolean isActive() {
@@ -37,6 +154,9 @@ public abstract class GameEntity implements Serializable {
 
     public void setActive(boolean active) {
         this.active = active;
+        if (owner != null) {
+            owner.onEntityChanged(this);
+        }
     }
 
     /**
@@ -74,11 +194,41 @@ public abstract class GameEntity implements Serializable {
         if (o == null || getClass() != o.getClass())
             return false;
         GameEntity that = (GameEntity) o;
-        return id.equals(that.id);
+        // Sin id asignado solo es igual a sí misma
+        return id != UNASSIGNED_ID && id == that.id;
     }
 
+    /**
+     * El hash cambia al asignarse el id: no usar entidades como clave antes de
+     * añadirlas al mapa.
+     */
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return id != UNASSIGNED_ID ? Long.hashCode(id) : System.identityHashCode(this);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("id", getId());
+        fields.put("position", position);
+        fields.put("active", active);
+        out.writeFields();
+    }
+
+    /**
+     * El id guardado no se conserva (las partidas antiguas usaban UUID): el mapa
+     * asigna uno nuevo al reconstruirse.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        this.position = (Position) fields.get("position", null);
+        this.active = fields.get("active", false);
+        this.id = UNASSIGNED_ID;
+        this.indexedCell = -1;
+        this.slot = -1;
+        this.typedSlot = -1;
+        this.handle = -1;
+        this.timerDeadline = TimerWheel.NOT_SCHEDULED;
+        this.awakeSlot = -1;
     }
 }
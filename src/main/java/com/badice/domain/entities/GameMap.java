@@ -1,38 +1,105 @@
 package com.badice.domain.entities;
 
 import com.badice.domain.interfaces.Collidable;
+import com.badice.domain.interfaces.LayoutListener;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.function.Predicate;
 
 /**
  * Representa el mapa del juego con todas las entidades.
+ * <p>
+ * Las colecciones se exponen como vistas sin copia ({@link #entities()},
+ * {@link #enemies()}, ...). Los métodos {@code getX()} heredados devuelven
+ * copias y se mantienen por compatibilidad.
  */
 public class GameMap implements Serializable {
     private static final long serialVersionUID = 1L;
-    private final int width;
-    private final int height;
-    private final int cellSize;
 
-    private final List<GameEntity> entities;
-    private final List<Block> blocks;
-    private final List<IceBlock> iceBlocks;
-    private final List<Fruit> fruits;
-    private final List<Enemy> enemies;
-    private final List<Player> players;
+    // Formato serializado original (listas), para seguir leyendo partidas antiguas
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("width", int.class),
+            new ObjectStreamField("height", int.class),
+            new ObjectStreamField("cellSize", int.class),
+            new ObjectStreamField("entities", List.class),
+            new ObjectStreamField("blocks", List.class),
+            new ObjectStreamField("iceBlocks", List.class),
+            new ObjectStreamField("fruits", List.class),
+            new ObjectStreamField("enemies", List.class),
+            new ObjectStreamField("players", List.class),
+            new ObjectStreamField("terrain", TerrainGrid.class)
+    };
+
+    private int width;
+    private int height;
+    private int cellSize;
+
+    // Muros y casillas fijas; las listas solo contienen entidades dinámicas
+    private TerrainGrid terrain;
+
+    private EntityList<GameEntity> entities;
+    private EntityList<Block> blocks;
+    private EntityList<IceBlock> iceBlocks;
+    private EntityList<Fruit> fruits;
+    private EntityList<Enemy> enemies;
+    private EntityList<Player> players;
+    private EntityList<GameEntity> others; // entidades sin lista propia
+    private EntityList<GameEntity> awake; // entidades que se actualizan en cada tick
+
+    // Entidades eliminadas o desactivadas desde la última limpieza
+    private List<GameEntity> cleanupQueue;
+
+    // Índice de ocupación por celda: cadena de entidades y número de sólidos
+    private GameEntity[] cellHeads;
+    private int[] solidCounts;
+
+    // Capas por celda (bit = hay al menos una entidad activa de ese tipo)
+    private BitSet iceLayer;
+    private BitSet hotTileLayer;
+    private BitSet campfireLayer;
+    private BitSet solidLayer; // terreno sólido o entidades sólidas
+    private BitSet obstacleLayer; // terreno, bloques y hielo (para búsquedas de rutas)
+    private BitSet wallLayer; // terreno o bloques sólidos (paso de enemigos)
+
+    // Cambia cada vez que cambia algún obstáculo estático (terreno, bloques, hielo)
+    private long layoutVersion;
+    private List<LayoutListener> layoutListeners = new ArrayList<>();
+    private GameClock clock = new GameClock();
+    private RandomGenerator random = new SplittableRandom();
+    private TimerWheel timers = new TimerWheel();
+
+    // Bloques de hielo añadidos y retirados desde que se creó el mapa
+    private long iceBlocksCreated;
+    private long iceBlocksDestroyed;
 
     public GameMap(int width, int height, int cellSize) {
         this.width = width;
         this.height = height;
         this.cellSize = cellSize;
-
-        this.entities = new ArrayList<>();
-        this.blocks = new ArrayList<>();
-        this.iceBlocks = new ArrayList<>();
-        this.fruits = new ArrayList<>();
-        this.enemies = new ArrayList<>();
-        this.players = new ArrayList<>();
+        this.terrain = TerrainGrid.empty(width, height);
+
+        this.entities = EntityList.primary();
+        this.blocks = EntityList.typed();
+        this.iceBlocks = EntityList.typed();
+        this.fruits = EntityList.typed();
+        this.enemies = EntityList.typed();
+        this.players = EntityList.ordered();
+        this.others = EntityList.typed();
+        this.awake = EntityList.awake();
+        this.cleanupQueue = new ArrayList<>();
+
+        this.cellHeads = new GameEntity[width * height];
+        this.solidCounts = new int[width * height];
+        initLayers();
     }
 
     public int getWidth() {
@@ -47,16 +114,55 @@ public class GameMap implements Serializable {
         return cellSize;
     }
 
+    public TerrainGrid getTerrain() {
+        return terrain;
+    }
+
+    /**
+     * Establece el terreno estático del mapa. Debe tener las mismas dimensiones.
+     */
+    public void setTerrain(TerrainGrid terrain) {
+        if (terrain.getWidth() != width || terrain.getHeight() != height) {
+            throw new IllegalArgumentException("El terreno no coincide con las dimensiones del mapa");
+        }
+        this.terrain = terrain;
+        for (int cell = 0; cell < width * height; cell++) {
+            refreshLayers(cell);
+        }
+    }
+
+    /**
+     * Verifica si una posición es terreno sólido (muro).
+     */
+    public boolean isTerrainSolid(Position position) {
+        int cell = cellIndex(position);
+        return cell >= 0 && terrain.isSolidCell(cell);
+    }
+
     public Player getPlayer() {
-        return players.isEmpty() ? null : players.get(0);
+        return getPlayer(0);
     }
 
-    public List<Player> getPlayers() {
-        return new ArrayList<>(players);
+    /**
+     * Obtiene el jugador con el índice dado (0 = jugador 1), o null si no existe.
+     */
+    public Player getPlayer(int index) {
+        return index >= 0 && index < players.rawSize() ? players.rawGet(index) : null;
+    }
+
+    public int getPlayerCount() {
+        return players.rawSize();
     }
 
+    /**
+     * Sustituye a todos los jugadores por uno solo. Los anteriores salen del
+     * mapa en el acto, así que no debe llamarse mientras se recorre una vista.
+     */
     public void setPlayer(Player player) {
-        this.players.clear();
+        for (Player current : players.copy()) {
+            removeEntity(current);
+        }
+        cleanupInactiveEntities();
         addEntity(player);
     }
 
@@ -64,32 +170,79 @@ public class GameMap implements Serializable {
         addEntity(player);
     }
 
+    // --- Vistas de solo lectura (sin copia) ---
+
+    public EntityView<GameEntity> entities() {
+        return entities.view();
+    }
+
+    public EntityView<Block> blocks() {
+        return blocks.view();
+    }
+
+    public EntityView<IceBlock> iceBlocks() {
+        return iceBlocks.view();
+    }
+
+    public EntityView<Fruit> fruits() {
+        return fruits.view();
+    }
+
+    public EntityView<Enemy> enemies() {
+        return enemies.view();
+    }
+
+    public EntityView<Player> players() {
+        return players.view();
+    }
+
+    // --- Copias (API heredada) ---
+
+    public List<Player> getPlayers() {
+        return players.copy();
+    }
+
     public List<GameEntity> getEntities() {
-        return new ArrayList<>(entities);
+        return entities.copy();
     }
 
     public List<Block> getBlocks() {
-        return new ArrayList<>(blocks);
+        return blocks.copy();
     }
 
     public List<IceBlock> getIceBlocks() {
-        return new ArrayList<>(iceBlocks);
+        return iceBlocks.copy();
     }
 
     public List<Fruit> getFruits() {
-        return new ArrayList<>(fruits);
+        return fruits.copy();
     }
 
     public List<Enemy> getEnemies() {
-        return new ArrayList<>(enemies);
+        return enemies.copy();
     }
 
     /**
      * Añade una entidad al mapa.
      */
     public void addEntity(GameEntity entity) {
-        if (!entities.contains(entity)) {
+        if (entity.pendingRemoval && entity.owner == null && entities.contains(entity)) {
+            // Eliminada en este mismo tick: se recupera en lugar de duplicarla
+            entity.pendingRemoval = false;
+            entities.onRemovalCancelled();
+            typedListOf(entity).onRemovalCancelled();
+            if (awake.contains(entity)) {
+                awake.onRemovalCancelled();
+            }
+            entity.owner = this;
+            onEntityChanged(entity);
+            entity.onAttached();
+        } else if (!entities.contains(entity)) {
             entities.add(entity);
+            if (entity.id == GameEntity.UNASSIGNED_ID) {
+                // El primer handle es el id: generacional y único en este mapa
+                entity.id = entity.handle;
+            }
 
             // Añadir a la lista específica según el tipo
             if (entity instanceof Player) {
@@ -100,26 +253,72 @@ public class GameMap implements Serializable {
                 fruits.add((Fruit) entity);
             } else if (entity instanceof IceBlock) {
                 iceBlocks.add((IceBlock) entity);
+                iceBlocksCreated++;
             } else if (entity instanceof Block) {
                 blocks.add((Block) entity);
+            } else {
+                others.add(entity);
             }
+
+            entity.owner = this;
+            onEntityChanged(entity);
+            attach(entity);
+        }
+    }
+
+    private void attach(GameEntity entity) {
+        if (entity.updatesEveryTick()) {
+            wake(entity);
         }
+        entity.onAttached();
     }
 
     /**
-     * Elimina una entidad del mapa.
+     * Elimina una entidad del mapa. Deja de estar en el índice inmediatamente,
+     * pero se retira de las colecciones en la limpieza del final del tick.
      */
     public void removeEntity(GameEntity entity) {
-        entities.remove(entity);
+        if (entity.owner != this || entity.pendingRemoval) {
+            return;
+        }
+        entity.pendingRemoval = true;
+        entities.onMarkedForRemoval();
+        typedListOf(entity).onMarkedForRemoval();
+        if (awake.contains(entity)) {
+            awake.onMarkedForRemoval();
+        }
+        unindex(entity);
+        timers.cancel(entity);
+        entity.owner = null;
+        queueForCleanup(entity);
+    }
+
+    /**
+     * Obtiene una entidad del mapa por su handle, o null si ya no está.
+     */
+    public GameEntity getEntity(long handle) {
+        return entities.get(handle);
+    }
 
-        if (entity instanceof Enemy) {
-            enemies.remove(entity);
+    private EntityList<? extends GameEntity> typedListOf(GameEntity entity) {
+        if (entity instanceof Player) {
+            return players;
+        } else if (entity instanceof Enemy) {
+            return enemies;
         } else if (entity instanceof Fruit) {
-            fruits.remove(entity);
+            return fruits;
         } else if (entity instanceof IceBlock) {
-            iceBlocks.remove(entity);
+            return iceBlocks;
         } else if (entity instanceof Block) {
-            blocks.remove(entity);
+            return blocks;
+        }
+        return others;
+    }
+
+    private void queueForCleanup(GameEntity entity) {
+        if (!entity.queuedForCleanup) {
+            entity.queuedForCleanup = true;
+            cleanupQueue.add(entity);
         }
     }
 
@@ -135,10 +334,12 @@ public class GameMap implements Serializable {
      * Elimina un bloque de hielo en la posición especificada.
      */
     public void removeIceBlock(Position position) {
-        iceBlocks.stream()
-                .filter(ice -> ice.getPosition().equals(position))
-                .findFirst()
-                .ifPresent(this::removeEntity);
+        for (IceBlock ice : iceBlocks.view()) {
+            if (ice.getPosition().equals(position)) {
+                removeEntity(ice);
+                return;
+            }
+        }
     }
 
     /**
@@ -153,51 +354,355 @@ public class GameMap implements Serializable {
      * Verifica si una posición está ocupada por una entidad sólida.
      */
     public boolean isPositionBlocked(Position position) {
-        return entities.stream()
-                .filter(GameEntity::isActive)
-                .anyMatch(entity -> entity instanceof Collidable &&
-                        ((Collidable) entity).isSolid() &&
-                        entity.getPosition().equals(position));
+        int cell = cellIndex(position);
+        return cell >= 0 && solidLayer.get(cell);
+    }
+
+    /**
+     * Verifica si una posición está ocupada por una entidad sólida que no sea
+     * ignorada por el filtro dado. El terreno sólido siempre bloquea.
+     */
+    public boolean isPositionBlocked(Position position, Predicate<GameEntity> ignored) {
+        int cell = cellIndex(position);
+        if (cell < 0) {
+            return false;
+        }
+        if (terrain.isSolidCell(cell)) {
+            return true;
+        }
+        if (solidCounts[cell] == 0) {
+            return false;
+        }
+        for (GameEntity e = cellHeads[cell]; e != null; e = e.nextInCell) {
+            if (e.indexedSolid && !ignored.test(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica si una celda es un obstáculo para las búsquedas de rutas:
+     * terreno, bloques (incluidas fogatas y baldosas calientes) o hielo.
+     * Los jugadores y enemigos no cuentan.
+     */
+    public boolean isObstacleCell(int cell) {
+        return obstacleLayer.get(cell);
+    }
+
+    /**
+     * Verifica si una celda bloquea el paso de los enemigos: terreno, bloques
+     * sólidos y, salvo que se ignore, hielo.
+     */
+    public boolean isWallCell(int cell, boolean ignoreIce) {
+        return wallLayer.get(cell) || (!ignoreIce && iceLayer.get(cell));
+    }
+
+    /**
+     * Reloj que leen las entidades temporizadas. Por defecto cada mapa tiene
+     * uno propio; el motor lo sustituye por el suyo.
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public void setClock(GameClock clock) {
+        this.clock = java.util.Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Generador del que sale todo el azar de la partida (enemigos, frutas,
+     * bots). Por defecto cada mapa tiene uno propio sin semilla fija; el motor
+     * lo sustituye por el de su sesión para que la partida sea reproducible.
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    public void setRandom(RandomGenerator random) {
+        this.random = java.util.Objects.requireNonNull(random);
+    }
+
+    /**
+     * Versión de la disposición de obstáculos estáticos; sirve para saber si
+     * los cálculos que dependen de ella (campos de distancia) siguen valiendo.
+     */
+    public long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Registra un observador de cambios en la capa de obstáculos.
+     */
+    public void addLayoutListener(LayoutListener listener) {
+        layoutListeners.add(listener);
+    }
+
+    public void removeLayoutListener(LayoutListener listener) {
+        layoutListeners.remove(listener);
+    }
+
+    public boolean isObstacle(Position position) {
+        int cell = cellIndex(position);
+        return cell >= 0 && obstacleLayer.get(cell);
+    }
+
+    public boolean hasIceAt(Position position) {
+        int cell = cellIndex(position);
+        return cell >= 0 && iceLayer.get(cell);
+    }
+
+    public boolean hasHotTileAt(Position position) {
+        int cell = cellIndex(position);
+        return cell >= 0 && hotTileLayer.get(cell);
+    }
+
+    public boolean hasCampfireAt(Position position) {
+        int cell = cellIndex(position);
+        return cell >= 0 && campfireLayer.get(cell);
+    }
+
+    /**
+     * Número de celdas libres consecutivas desde {@code from} (sin incluirla)
+     * en la dirección dada, hasta el primer obstáculo o el borde del mapa.
+     */
+    public int freeRunLength(Position from, Direction direction) {
+        return runLength(solidLayer, false, from, direction);
+    }
+
+    /**
+     * Número de bloques de hielo consecutivos desde {@code from} (sin incluirla)
+     * en la dirección dada.
+     */
+    public int iceRunLength(Position from, Direction direction) {
+        return runLength(iceLayer, true, from, direction);
+    }
+
+    /**
+     * Recorre un rayo sobre una capa mientras sus bits valgan {@code whileSet}.
+     * Las filas se resuelven con búsqueda de bits; las columnas, por saltos de
+     * una fila.
+     */
+    private int runLength(BitSet layer, boolean whileSet, Position from, Direction direction) {
+        int dx = PackedPosition.deltaX(direction);
+        int dy = PackedPosition.deltaY(direction);
+        int cell = PackedPosition.cellIndex(from.getX() + dx, from.getY() + dy, width, height);
+        if ((dx == 0 && dy == 0) || cell < 0) {
+            return 0;
+        }
+        int y = PackedPosition.cellY(cell, width);
+
+        if (dy == 0) {
+            int rowStart = y * width;
+            int rowEnd = rowStart + width;
+            if (dx > 0) {
+                int stop = whileSet ? layer.nextClearBit(cell) : layer.nextSetBit(cell);
+                if (stop < 0 || stop > rowEnd) {
+                    stop = rowEnd;
+                }
+                return stop - cell;
+            }
+            int stop = whileSet ? layer.previousClearBit(cell) : layer.previousSetBit(cell);
+            return cell - Math.max(stop, rowStart - 1);
+        }
+
+        int count = 0;
+        int stride = dy * width;
+        for (int c = cell; c >= 0 && c < width * height && layer.get(c) == whileSet; c += stride) {
+            count++;
+        }
+        return count;
     }
 
     /**
      * Obtiene la entidad en una posición específica.
      */
     public GameEntity getEntityAt(Position position) {
-        return entities.stream()
-                .filter(GameEntity::isActive)
-                .filter(entity -> entity.getPosition().equals(position))
-                .findFirst()
-                .orElse(null);
+        int cell = cellIndex(position);
+        if (cell < 0) {
+            return null;
+        }
+        for (GameEntity e = cellHeads[cell]; e != null; e = e.nextInCell) {
+            if (e.isActive()) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene todas las entidades activas en una posición específica.
+     */
+    public List<GameEntity> getEntitiesAt(Position position) {
+        List<GameEntity> result = new ArrayList<>(2);
+        int cell = cellIndex(position);
+        if (cell < 0) {
+            return result;
+        }
+        for (GameEntity e = cellHeads[cell]; e != null; e = e.nextInCell) {
+            if (e.isActive()) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtiene la primera entidad activa del tipo indicado en una posición.
+     */
+    public <T extends GameEntity> T getEntityAt(Position position, Class<T> type) {
+        int cell = cellIndex(position);
+        if (cell < 0) {
+            return null;
+        }
+        for (GameEntity e = cellHeads[cell]; e != null; e = e.nextInCell) {
+            if (e.isActive() && type.isInstance(e)) {
+                return type.cast(e);
+            }
+        }
+        return null;
     }
 
     /**
-     * Limpia todas las entidades inactivas del mapa.
+     * Verifica si hay alguna entidad del tipo indicado en una posición, activa o
+     * no (las inactivas siguen en el mapa hasta la siguiente limpieza).
+     */
+    public boolean containsEntityAt(Position position, Class<? extends GameEntity> type) {
+        int cell = cellIndex(position);
+        if (cell < 0) {
+            return false;
+        }
+        for (GameEntity e = cellHeads[cell]; e != null; e = e.nextInCell) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Limpia todas las entidades inactivas del mapa y aplica las eliminaciones
+     * diferidas. No debe llamarse mientras se recorre una vista.
      */
     public void cleanupInactiveEntities() {
-        entities.removeIf(entity -> !entity.isActive());
-        blocks.removeIf(entity -> !entity.isActive());
-        iceBlocks.removeIf(entity -> !entity.isActive());
-        fruits.removeIf(entity -> !entity.isActive());
-        enemies.removeIf(entity -> !entity.isActive());
+        // Solo se visitan las entidades eliminadas o desactivadas desde la
+        // última limpieza; cada una se retira en O(1)
+        for (int i = 0; i < cleanupQueue.size(); i++) {
+            GameEntity entity = cleanupQueue.get(i);
+            entity.queuedForCleanup = false;
+            if (entity.pendingRemoval) {
+                entities.remove(entity);
+                typedListOf(entity).remove(entity);
+                awake.remove(entity);
+                entity.pendingRemoval = false;
+                countRemoval(entity);
+            } else if (!entity.isActive() && entity.owner == this) {
+                // Los jugadores inactivos se conservan en su lista
+                countRemoval(entity);
+                entities.remove(entity);
+                if (!(entity instanceof Player)) {
+                    typedListOf(entity).remove(entity);
+                }
+                awake.remove(entity);
+                unindex(entity);
+                timers.cancel(entity);
+                entity.owner = null;
+            } else if (!entity.awake) {
+                awake.remove(entity);
+            }
+        }
+        cleanupQueue.clear();
+    }
+
+    private void countRemoval(GameEntity entity) {
+        if (entity instanceof IceBlock) {
+            iceBlocksDestroyed++;
+        }
     }
 
     /**
-     * Actualiza todas las entidades del mapa.
+     * Actualiza las entidades del mapa: solo las despiertas y las temporizadas
+     * cuyo plazo vence en este tick. Muros, hielo intacto o frutas estáticas
+     * no se visitan.
      */
     public void updateAllEntities() {
-        for (GameEntity entity : new ArrayList<>(entities)) {
-            entity.update();
-        }
+        awake.view().forEach(GameEntity::update);
+        timers.advance();
         cleanupInactiveEntities();
     }
 
+    /**
+     * Añade una entidad del mapa al conjunto de despiertas (ver
+     * {@link GameEntity#wake()}). Si se despierta durante la actualización,
+     * empieza a actualizarse en el tick siguiente.
+     */
+    void wake(GameEntity entity) {
+        if (entity.owner != this) {
+            return;
+        }
+        entity.awake = true;
+        if (!awake.contains(entity)) {
+            awake.add(entity);
+        }
+    }
+
+    /**
+     * Saca una entidad del conjunto de despiertas en la próxima limpieza.
+     */
+    void sleep(GameEntity entity) {
+        if (entity.awake) {
+            entity.awake = false;
+            queueForCleanup(entity);
+        }
+    }
+
+    /**
+     * Número de entidades que se actualizan en cada tick.
+     */
+    public int getAwakeCount() {
+        return awake.liveCount();
+    }
+
+    /**
+     * Programa una actualización de una entidad del mapa (ver
+     * {@link GameEntity#scheduleUpdate(long)}). El plazo se redondea hacia
+     * arriba a ticks del reloj.
+     */
+    void scheduleUpdate(GameEntity entity, long delayMillis) {
+        if (entity.owner != this) {
+            return;
+        }
+        long tickMillis = clock.getTickMillis();
+        timers.schedule(entity, (Math.max(0, delayMillis) + tickMillis - 1) / tickMillis);
+    }
+
+    /**
+     * Número de temporizadores pendientes.
+     */
+    public int getScheduledCount() {
+        return timers.size();
+    }
+
+    /**
+     * Bloques de hielo añadidos al mapa desde su creación (incluidos los del
+     * nivel inicial). No se guarda con la partida.
+     */
+    public long getIceBlocksCreated() {
+        return iceBlocksCreated;
+    }
+
+    /**
+     * Bloques de hielo retirados del mapa desde su creación.
+     */
+    public long getIceBlocksDestroyed() {
+        return iceBlocksDestroyed;
+    }
+
     /**
      * Encuentra una posición aleatoria libre en el mapa.
      * Una posición está libre si está dentro de los límites y no está bloqueada.
      */
     public Position findRandomFreePosition() {
-        java.util.Random random = new java.util.Random();
         int maxAttempts = 100; // Evitar bucle infinito
 
         for (int i = 0; i < maxAttempts; i++) {
@@ -214,4 +719,233 @@ public class GameMap implements Serializable {
         return null;
     }
 
+    // --- Índice de ocupación ---
+
+    /**
+     * Convierte una posición en índice de celda, o -1 si está fuera del mapa.
+     * Las entidades fuera de los límites no se indexan.
+     */
+    private int cellIndex(Position position) {
+        return PackedPosition.cellIndex(position.getX(), position.getY(), width, height);
+    }
+
+    /**
+     * Recalcula la celda y la solidez indexadas de una entidad. Se invoca al
+     * añadirla y en cada cambio de posición o de estado activo.
+     */
+    void onEntityChanged(GameEntity entity) {
+        int cell = cellIndex(entity.getPosition());
+        boolean solid = cell >= 0 && entity.isActive() && entity instanceof Collidable
+                && ((Collidable) entity).isSolid();
+
+        if (entity.indexedCell != cell) {
+            unindex(entity);
+            if (cell >= 0) {
+                link(entity, cell);
+                if (solid) {
+                    solidCounts[cell]++;
+                }
+            }
+        } else if (cell >= 0 && entity.indexedSolid != solid) {
+            solidCounts[cell] += solid ? 1 : -1;
+        }
+        entity.indexedSolid = solid;
+        if (cell >= 0) {
+            refreshLayers(cell);
+        }
+        if (!entity.isActive()) {
+            queueForCleanup(entity);
+        }
+    }
+
+    private void initLayers() {
+        int cells = width * height;
+        this.iceLayer = new BitSet(cells);
+        this.hotTileLayer = new BitSet(cells);
+        this.campfireLayer = new BitSet(cells);
+        this.solidLayer = new BitSet(cells);
+        this.obstacleLayer = new BitSet(cells);
+        this.wallLayer = new BitSet(cells);
+        for (int cell = 0; cell < cells; cell++) {
+            if (terrain.isSolidCell(cell)) {
+                solidLayer.set(cell);
+                obstacleLayer.set(cell);
+                wallLayer.set(cell);
+            }
+        }
+        layoutVersion++;
+    }
+
+    /**
+     * Recalcula los bits de las capas para una celda a partir de su cadena.
+     */
+    private void refreshLayers(int cell) {
+        boolean ice = false;
+        boolean hotTile = false;
+        boolean campfire = false;
+        boolean obstacle = terrain.isSolidCell(cell);
+        boolean wall = obstacle;
+        for (GameEntity e = cellHeads[cell]; e != null; e = e.nextInCell) {
+            if (!e.isActive()) {
+                continue;
+            }
+            if (e instanceof IceBlock) {
+                ice = true;
+            } else if (e instanceof HotTile) {
+                hotTile = true;
+            } else if (e instanceof Campfire) {
+                campfire = true;
+            }
+            if (e instanceof IceBlock || e instanceof Block) {
+                obstacle = true;
+            }
+            if (e instanceof Block && ((Block) e).isSolid()) {
+                wall = true;
+            }
+        }
+        boolean obstacleChanged = obstacle != obstacleLayer.get(cell);
+        if (ice != iceLayer.get(cell) || obstacleChanged || wall != wallLayer.get(cell)) {
+            layoutVersion++;
+        }
+        iceLayer.set(cell, ice);
+        hotTileLayer.set(cell, hotTile);
+        campfireLayer.set(cell, campfire);
+        solidLayer.set(cell, terrain.isSolidCell(cell) || solidCounts[cell] > 0);
+        obstacleLayer.set(cell, obstacle);
+        wallLayer.set(cell, wall);
+        if (obstacleChanged) {
+            for (int i = 0; i < layoutListeners.size(); i++) {
+                layoutListeners.get(i).onObstacleChanged(cell);
+            }
+        }
+    }
+
+    private void link(GameEntity entity, int cell) {
+        // Se añade al final para conservar el orden de inserción en getEntityAt
+        entity.nextInCell = null;
+        if (cellHeads[cell] == null) {
+            cellHeads[cell] = entity;
+        } else {
+            GameEntity tail = cellHeads[cell];
+            while (tail.nextInCell != null) {
+                tail = tail.nextInCell;
+            }
+            tail.nextInCell = entity;
+        }
+        entity.indexedCell = cell;
+        entity.indexedSolid = false;
+    }
+
+    private void unindex(GameEntity entity) {
+        int cell = entity.indexedCell;
+        if (cell < 0) {
+            return;
+        }
+        GameEntity prev = null;
+        for (GameEntity e = cellHeads[cell]; e != null; e = e.nextInCell) {
+            if (e == entity) {
+                if (prev == null) {
+                    cellHeads[cell] = e.nextInCell;
+                } else {
+                    prev.nextInCell = e.nextInCell;
+                }
+                break;
+            }
+            prev = e;
+        }
+        if (entity.indexedSolid) {
+            solidCounts[cell]--;
+        }
+        entity.nextInCell = null;
+        entity.indexedCell = -1;
+        entity.indexedSolid = false;
+        refreshLayers(cell);
+    }
+
+    // --- Serialización ---
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("width", width);
+        fields.put("height", height);
+        fields.put("cellSize", cellSize);
+        fields.put("entities", entities.copy());
+        fields.put("blocks", blocks.copy());
+        fields.put("iceBlocks", iceBlocks.copy());
+        fields.put("fruits", fruits.copy());
+        fields.put("enemies", enemies.copy());
+        fields.put("players", players.copy());
+        fields.put("terrain", terrain);
+        out.writeFields();
+    }
+
+    /**
+     * Restaura las colecciones y reconstruye el índice tras deserializar una
+     * partida guardada.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        this.width = fields.get("width", 0);
+        this.height = fields.get("height", 0);
+        this.cellSize = fields.get("cellSize", 0);
+        this.entities = EntityList.primary();
+        this.blocks = EntityList.typed();
+        this.iceBlocks = EntityList.typed();
+        this.fruits = EntityList.typed();
+        this.enemies = EntityList.typed();
+        this.players = EntityList.ordered();
+        this.others = EntityList.typed();
+        this.awake = EntityList.awake();
+        this.cleanupQueue = new ArrayList<>();
+        this.layoutListeners = new ArrayList<>();
+        this.clock = new GameClock();
+        this.random = new SplittableRandom();
+        this.timers = new TimerWheel();
+        entities.addAll((List<GameEntity>) fields.get("entities", null));
+        entities.view().forEach(entity -> entity.id = entity.handle);
+        blocks.addAll((List<Block>) fields.get("blocks", null));
+        iceBlocks.addAll((List<IceBlock>) fields.get("iceBlocks", null));
+        fruits.addAll((List<Fruit>) fields.get("fruits", null));
+        enemies.addAll((List<Enemy>) fields.get("enemies", null));
+        players.addAll((List<Player>) fields.get("players", null));
+        entities.view().forEach(entity -> {
+            if (typedListOf(entity) == others) {
+                others.add(entity);
+            }
+        });
+        this.terrain = (TerrainGrid) fields.get("terrain", null);
+        if (terrain == null) {
+            migrateWallsToTerrain();
+        }
+
+        this.cellHeads = new GameEntity[width * height];
+        this.solidCounts = new int[width * height];
+        initLayers();
+        entities.view().forEach(entity -> {
+            entity.owner = this;
+            entity.nextInCell = null;
+            entity.indexedCell = -1;
+            entity.indexedSolid = false;
+            onEntityChanged(entity);
+        });
+        entities.view().forEach(this::attach);
+    }
+
+    /**
+     * Las partidas guardadas antes de la capa de terreno tienen los muros como
+     * entidades Block; se pasan al terreno.
+     */
+    private void migrateWallsToTerrain() {
+        byte[] tiles = new byte[width * height];
+        for (Block block : blocks.copy()) {
+            int cell = cellIndex(block.getPosition());
+            if (block.getClass() == Block.class && "wall".equals(block.getBlockType()) && cell >= 0) {
+                tiles[cell] = TerrainGrid.WALL;
+                blocks.remove(block);
+                entities.remove(block);
+            }
+        }
+        this.terrain = new TerrainGrid(width, height, tiles);
+    }
 }
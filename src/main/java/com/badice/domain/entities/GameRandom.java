@@ -0,0 +1,38 @@
+package com.badice.domain.entities;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generador de la partida (SplitMix64, el mismo algoritmo que
+ * {@link java.util.SplittableRandom}). A diferencia de este, su estado es un
+ * único {@code long} que se puede leer y restaurar, para guardarlo en los
+ * fotogramas clave de las repeticiones.
+ * <p>
+ * El motor es su dueño y lo comparte con el mapa (ver
+ * {@link GameMap#getRandom()}).
+ */
+public final class GameRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = state += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+}
@@ -8,6 +8,8 @@ import com.badice.domain.interfaces.Destructible;
  * jugador.
  */
 public class IceBlock extends GameEntity implements Collidable, Destructible {
+    // Valor implícito de versiones anteriores, para seguir leyendo partidas guardadas
+    private static final long serialVersionUID = 2746832118242373018L;
     private static final String ENTITY_TYPE = "ICE_BLOCK";
     private static final int DEFAULT_HEALTH = 1;
     private static final long CRACK_DELAY = 300; // 300ms entre estados de ruptura
@@ -20,7 +22,7 @@ public class IceBlock extends GameEntity implements Collidable, Destructible {
 
     private int health;
     private IceState state;
-    private long crackTime; // Momento en que se agrietó
+    private long crackTime; // Momento en que se agrietó (hora de juego)
 
     public IceBlock(Position position) {
         super(position);
@@ -32,7 +34,7 @@ public class IceBlock extends GameEntity implements Collidable, Destructible {
     @Override
     public void destroy() {
         this.health = 0;
-        this.active = false;
+        setActive(false);
     }
 
     @Override
@@ -73,20 +75,29 @@ public class IceBlock extends GameEntity implements Collidable, Destructible {
         // El hielo bloquea el movimiento pero puede ser destruido
     }
 
+    @Override
+    protected void onAttached() {
+        if (state != IceState.INTACT) {
+            scheduleUpdate(0);
+        }
+    }
+
     @Override
     protected void doUpdate() {
         // Verificar transición de estados
-        if (state == IceState.CRACKED && crackTime > 0) {
-            long elapsed = System.currentTimeMillis() - crackTime;
-            if (elapsed >= CRACK_DELAY) {
-                state = IceState.BROKEN;
-                crackTime = System.currentTimeMillis();
-            }
-        } else if (state == IceState.BROKEN && crackTime > 0) {
-            long elapsed = System.currentTimeMillis() - crackTime;
-            if (elapsed >= CRACK_DELAY) {
-                destroy();
-            }
+        if (state == IceState.INTACT) {
+            return;
+        }
+        crackTime = stampOrNow(crackTime);
+        long elapsed = now() - crackTime;
+        if (elapsed < CRACK_DELAY) {
+            scheduleUpdate(CRACK_DELAY - elapsed);
+        } else if (state == IceState.CRACKED) {
+            state = IceState.BROKEN;
+            crackTime = now();
+            scheduleUpdate(CRACK_DELAY);
+        } else {
+            destroy();
         }
     }
 
@@ -96,7 +107,8 @@ public class IceBlock extends GameEntity implements Collidable, Destructible {
     public void crack() {
         if (state == IceState.INTACT) {
             state = IceState.CRACKED;
-            crackTime = System.currentTimeMillis();
+            crackTime = now();
+            scheduleUpdate(CRACK_DELAY);
         }
     }
 
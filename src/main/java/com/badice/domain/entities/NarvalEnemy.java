@@ -49,7 +49,7 @@ public class NarvalEnemy extends Enemy {
     public void stopCharge() {
         this.isCharging = false;
         this.chargeDirection = null;
-        this.lastChargeTime = System.currentTimeMillis();
+        this.lastChargeTime = now();
     }
 
     public boolean isCharging() {
@@ -0,0 +1,102 @@
+package com.badice.domain.entities;
+
+/**
+ * Representación primitiva de coordenadas para las rutas calientes (búsquedas,
+ * rayos, índices por celda) que no deben crear objetos {@link Position}.
+ * <p>
+ * Hay dos formas: el valor empaquetado ({@code x} en los 16 bits altos,
+ * {@code y} en los bajos, ambos con signo) y el índice de celda
+ * {@code y * width + x}, válido solo dentro del mapa.
+ */
+public final class PackedPosition {
+    private static final Direction[] CARDINALS = { Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT };
+    private static final int[] DX = new int[Direction.values().length];
+    private static final int[] DY = new int[Direction.values().length];
+
+    static {
+        for (Direction direction : Direction.values()) {
+            DX[direction.ordinal()] = direction.getDeltaX();
+            DY[direction.ordinal()] = direction.getDeltaY();
+        }
+    }
+
+    /** Número de direcciones cardinales (ver {@link #cardinal(int)}). */
+    public static final int CARDINAL_COUNT = CARDINALS.length;
+
+    private PackedPosition() {
+    }
+
+    public static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    public static int pack(Position position) {
+        return pack(position.getX(), position.getY());
+    }
+
+    public static int x(int packed) {
+        return packed >> 16;
+    }
+
+    public static int y(int packed) {
+        return (short) packed;
+    }
+
+    public static Position toPosition(int packed) {
+        return new Position(x(packed), y(packed));
+    }
+
+    /**
+     * Coordenada empaquetada desplazada una casilla en la dirección dada.
+     */
+    public static int move(int packed, Direction direction) {
+        return pack(x(packed) + DX[direction.ordinal()], y(packed) + DY[direction.ordinal()]);
+    }
+
+    /**
+     * Dirección cardinal por índice (0..3), sin la copia de {@code values()}.
+     */
+    public static Direction cardinal(int index) {
+        return CARDINALS[index];
+    }
+
+    public static int deltaX(Direction direction) {
+        return DX[direction.ordinal()];
+    }
+
+    public static int deltaY(Direction direction) {
+        return DY[direction.ordinal()];
+    }
+
+    public static int manhattan(int a, int b) {
+        return Math.abs(x(a) - x(b)) + Math.abs(y(a) - y(b));
+    }
+
+    // --- Índices de celda ---
+
+    /**
+     * Índice de celda de (x, y), o -1 si está fuera del mapa.
+     */
+    public static int cellIndex(int x, int y, int width, int height) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return y * width + x;
+    }
+
+    public static int cellX(int cell, int width) {
+        return cell % width;
+    }
+
+    public static int cellY(int cell, int width) {
+        return cell / width;
+    }
+
+    /**
+     * Celda vecina en la dirección dada, o -1 si sale del mapa.
+     */
+    public static int neighbourCell(int cell, Direction direction, int width, int height) {
+        return cellIndex(cellX(cell, width) + DX[direction.ordinal()],
+                cellY(cell, width) + DY[direction.ordinal()], width, height);
+    }
+}
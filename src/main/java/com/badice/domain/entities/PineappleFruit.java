@@ -6,6 +6,8 @@ package com.badice.domain.entities;
  * Otorga 200 puntos.
  */
 public class PineappleFruit extends Fruit {
+    // Valor implícito de versiones anteriores, para seguir leyendo partidas guardadas
+    private static final long serialVersionUID = 8007848715919632640L;
     private static final int POINTS = 200;
 
     private final Player player;
@@ -25,6 +27,11 @@ public class PineappleFruit extends Fruit {
         }
     }
 
+    @Override
+    protected boolean updatesEveryTick() {
+        return true; // sigue los movimientos del jugador
+    }
+
     @Override
     protected void doUpdate() {
         if (player == null || !player.isActive()) {
@@ -84,15 +91,10 @@ public class PineappleFruit extends Fruit {
 
         // Verificar si está bloqueada, PERO ignorar al jugador (para permitir ser
         // recogida)
-        boolean blockedBySolid = gameMap.getEntities().stream()
-                .filter(e -> e.isActive() && e instanceof com.badice.domain.interfaces.Collidable)
-                .map(e -> (com.badice.domain.interfaces.Collidable) e)
-                .filter(com.badice.domain.interfaces.Collidable::isSolid)
-                .filter(e -> !e.equals(player)) // Ignorar al jugador
-                .anyMatch(e -> e.getCollisionPosition().equals(newPosition));
+        boolean blockedBySolid = gameMap.isPositionBlocked(newPosition, e -> e == player);
 
         if (!blockedBySolid) {
-            this.position = newPosition;
+            setPosition(newPosition);
         }
     }
 
@@ -40,7 +40,7 @@ public class Player extends GameEntity implements Movable, Collidable {
     @Override
     public void move(Direction direction) {
         this.currentDirection = direction;
-        this.position = position.move(direction);
+        setPosition(position.move(direction));
     }
 
     @Override
@@ -59,12 +59,12 @@ public class Player extends GameEntity implements Movable, Collidable {
     public void loseLife() {
         this.lives--;
         if (lives <= 0) {
-            this.active = false;
+            setActive(false);
         }
     }
 
     public void setInactive() {
-        this.active = false;
+        setActive(false);
     }
 
     public void addLife() {
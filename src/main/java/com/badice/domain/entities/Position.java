@@ -1,6 +1,5 @@
 package com.badice.domain.entities;
 
-import java.util.Objects;
 import java.io.Serializable;
 
 /**
@@ -48,7 +47,14 @@ public class Position implements Serializable {
     }
 
     public double distanceTo(Position other) {
-        return Math.sqrt(Math.pow(this.x - other.x, 2) + Math.pow(this.y - other.y, 2));
+        return euclideanDistance(other);
+    }
+
+    /**
+     * Forma empaquetada de la posición (ver {@link PackedPosition}).
+     */
+    public int pack() {
+        return PackedPosition.pack(x, y);
     }
 
     @Override
@@ -63,7 +69,7 @@ public class Position implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     @Override
@@ -30,16 +30,13 @@ public class SquidEnemy extends Enemy {
     public void breakIceAt(Position position, GameMap map) {
         // Activar animación de romper hielo
         this.isBreakingIce = true;
-        this.breakingIceStartTime = System.currentTimeMillis();
+        this.breakingIceStartTime = now();
 
-        map.getEntities().stream()
-                .filter(entity -> entity instanceof IceBlock)
-                .filter(entity -> entity.getPosition().equals(position))
-                .filter(entity -> entity.isActive())
-                .forEach(entity -> {
-                    IceBlock ice = (IceBlock) entity;
-                    ice.destroy();
-                });
+        for (GameEntity entity : map.getEntitiesAt(position)) {
+            if (entity instanceof IceBlock) {
+                ((IceBlock) entity).destroy();
+            }
+        }
     }
 
     @Override
@@ -47,8 +44,11 @@ public class SquidEnemy extends Enemy {
         super.doUpdate();
 
         // Desactivar animación de romper hielo después del tiempo
-        if (isBreakingIce && System.currentTimeMillis() - breakingIceStartTime >= BREAKING_ICE_DURATION) {
-            isBreakingIce = false;
+        if (isBreakingIce) {
+            breakingIceStartTime = stampOrNow(breakingIceStartTime);
+            if (now() - breakingIceStartTime >= BREAKING_ICE_DURATION) {
+                isBreakingIce = false;
+            }
         }
     }
 
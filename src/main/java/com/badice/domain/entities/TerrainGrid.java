@@ -0,0 +1,78 @@
+package com.badice.domain.entities;
+
+import java.io.Serializable;
+
+/**
+ * Capa de terreno estático del mapa (muros y demás casillas que nunca cambian).
+ * Es inmutable y se consulta por índice de celda, sin recorrer entidades.
+ */
+public final class TerrainGrid implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final byte EMPTY = 0;
+    public static final byte WALL = 1;
+
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+
+    /**
+     * Crea el terreno a partir de un arreglo de casillas por filas
+     * ({@code y * width + x}). El arreglo se copia.
+     */
+    public TerrainGrid(int width, int height, byte[] tiles) {
+        if (tiles.length != width * height) {
+            throw new IllegalArgumentException("El terreno debe tener " + (width * height) + " casillas");
+        }
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles.clone();
+    }
+
+    /**
+     * Crea un terreno vacío.
+     */
+    public static TerrainGrid empty(int width, int height) {
+        return new TerrainGrid(width, height, new byte[width * height]);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Obtiene la casilla en (x, y), o {@link #EMPTY} si está fuera del mapa.
+     */
+    public byte getTile(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return EMPTY;
+        }
+        return tiles[y * width + x];
+    }
+
+    public boolean isSolid(int x, int y) {
+        return getTile(x, y) != EMPTY;
+    }
+
+    public boolean isSolid(Position position) {
+        return isSolid(position.getX(), position.getY());
+    }
+
+    /**
+     * Consulta por índice de celda ya validado.
+     */
+    boolean isSolidCell(int cell) {
+        return tiles[cell] != EMPTY;
+    }
+
+    /**
+     * Tipo de bloque usado para dibujar la casilla, o null si está vacía.
+     */
+    public static String getBlockType(byte tile) {
+        return tile == WALL ? "wall" : null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.badice.domain.entities;
+
+import java.util.Arrays;
+
+/**
+ * Rueda de temporizadores (hashed timer wheel) para las transiciones
+ * programadas de las entidades: hielo que se agrieta, fogatas que se
+ * reencienden, frutas que cambian de estado...
+ * <p>
+ * Cada entidad tiene como mucho un temporizador pendiente, enlazado en la
+ * ranura de su tick de vencimiento ({@code tick & MASK}). Avanzar un tick solo
+ * recorre una ranura, así que el coste depende de los temporizadores que
+ * vencen y no del número total de entidades. Los plazos más largos que una
+ * vuelta simplemente esperan en su ranura a que llegue su tick.
+ */
+final class TimerWheel {
+    private static final int SLOTS = 256; // potencia de dos
+    private static final int MASK = SLOTS - 1;
+    static final long NOT_SCHEDULED = -1;
+
+    private final GameEntity[] heads = new GameEntity[SLOTS];
+    private GameEntity[] due = new GameEntity[16];
+    private long currentTick;
+    private int size;
+
+    /**
+     * Programa una actualización de la entidad dentro de {@code ticks} ticks
+     * (mínimo uno). Si ya tenía una antes, se conserva la más temprana.
+     */
+    void schedule(GameEntity entity, long ticks) {
+        long deadline = currentTick + Math.max(1, ticks);
+        if (entity.timerDeadline != NOT_SCHEDULED) {
+            if (entity.timerDeadline <= deadline) {
+                return;
+            }
+            unlink(entity);
+        }
+        link(entity, deadline);
+    }
+
+    void cancel(GameEntity entity) {
+        if (entity.timerDeadline != NOT_SCHEDULED) {
+            unlink(entity);
+        }
+    }
+
+    /**
+     * Avanza un tick y actualiza las entidades cuyo temporizador vence. Las
+     * entidades pueden volver a programarse durante su actualización.
+     */
+    void advance() {
+        currentTick++;
+        int dueCount = 0;
+        GameEntity entity = heads[(int) (currentTick & MASK)];
+        while (entity != null) {
+            GameEntity next = entity.timerNext;
+            if (entity.timerDeadline == currentTick) {
+                unlink(entity);
+                if (dueCount == due.length) {
+                    due = Arrays.copyOf(due, dueCount * 2);
+                }
+                due[dueCount++] = entity;
+            }
+            entity = next;
+        }
+        for (int i = 0; i < dueCount; i++) {
+            due[i].update();
+            due[i] = null;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void link(GameEntity entity, long deadline) {
+        int slot = (int) (deadline & MASK);
+        entity.timerDeadline = deadline;
+        entity.timerPrev = null;
+        entity.timerNext = heads[slot];
+        if (heads[slot] != null) {
+            heads[slot].timerPrev = entity;
+        }
+        heads[slot] = entity;
+        size++;
+    }
+
+    private void unlink(GameEntity entity) {
+        if (entity.timerPrev != null) {
+            entity.timerPrev.timerNext = entity.timerNext;
+        } else {
+            heads[(int) (entity.timerDeadline & MASK)] = entity.timerNext;
+        }
+        if (entity.timerNext != null) {
+            entity.timerNext.timerPrev = entity.timerPrev;
+        }
+        entity.timerPrev = null;
+        entity.timerNext = null;
+        entity.timerDeadline = NOT_SCHEDULED;
+        size--;
+    }
+}
@@ -0,0 +1,31 @@
+package com.badice.domain.factories;
+
+import com.badice.domain.enums.BotProfile;
+import com.badice.domain.interfaces.BotStrategy;
+import com.badice.domain.services.strategies.ExpertStrategy;
+import com.badice.domain.services.strategies.FearfulStrategy;
+import com.badice.domain.services.strategies.HungryStrategy;
+
+/**
+ * Factory para crear la estrategia de un perfil de bot.
+ */
+public class BotStrategyFactory {
+
+    /**
+     * Crea una estrategia nueva (sin estado compartido) para el perfil.
+     */
+    public static BotStrategy create(BotProfile profile) {
+        if (profile == null) {
+            return new HungryStrategy();
+        }
+        switch (profile) {
+            case FEARFUL:
+                return new FearfulStrategy();
+            case EXPERT:
+                return new ExpertStrategy();
+            case HUNGRY:
+            default:
+                return new HungryStrategy();
+        }
+    }
+}
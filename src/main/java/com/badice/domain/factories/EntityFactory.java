@@ -96,6 +96,22 @@ public class EntityFactory {
         return createBlock(x, y, "wall");
     }
 
+    /**
+     * Crea el terreno estático con muros en todo el borde del mapa.
+     */
+    public static TerrainGrid createBorderTerrain(int width, int height) {
+        byte[] tiles = new byte[width * height];
+        for (int x = 0; x < width; x++) {
+            tiles[x] = TerrainGrid.WALL;
+            tiles[(height - 1) * width + x] = TerrainGrid.WALL;
+        }
+        for (int y = 1; y < height - 1; y++) {
+            tiles[y * width] = TerrainGrid.WALL;
+            tiles[y * width + width - 1] = TerrainGrid.WALL;
+        }
+        return new TerrainGrid(width, height, tiles);
+    }
+
     /**
      * Crea un bloque de hielo.
      */
@@ -3,7 +3,14 @@ package com.badice.domain.interfaces;
 import com.badice.domain.entities.Player;
 import com.badice.domain.entities.GameMap;
 import com.badice.domain.entities.Direction;
+import com.badice.domain.services.NavigationService;
 
 public interface BotStrategy {
     Direction calculateNextMove(Player bot, GameMap map);
+
+    /**
+     * Establece los campos de distancia compartidos del tick actual.
+     */
+    default void setNavigation(NavigationService navigation) {
+    }
 }
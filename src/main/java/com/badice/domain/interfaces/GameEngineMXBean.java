@@ -0,0 +1,90 @@
+package com.badice.domain.interfaces;
+
+/**
+ * Métricas del motor publicadas por JMX (JConsole, VisualVM) para seguir
+ * partidas largas sin conectar un perfilador.
+ * <p>
+ * Las tasas por segundo se recalculan una vez por segundo en el hilo de
+ * simulación; con el bucle parado se quedan en el último valor.
+ */
+public interface GameEngineMXBean {
+
+    // --- Ticks ---
+
+    /** Ticks por segundo conseguidos en el último segundo. */
+    double getTickRate();
+
+    /** Ticks ejecutados desde que arrancó el motor. */
+    long getTickCount();
+
+    /**
+     * Mediana de la duración de los ticks de juego, en milisegundos. Requiere
+     * el perfilador activo; si no, 0.
+     */
+    double getTickDurationP50Millis();
+
+    /** Percentil 99 de la duración de los ticks, en milisegundos. */
+    double getTickDurationP99Millis();
+
+    /** Duración máxima de los ticks de la ventana, en milisegundos. */
+    double getTickDurationMaxMillis();
+
+    boolean isProfilingEnabled();
+
+    void setProfilingEnabled(boolean enabled);
+
+    // --- Entidades del mapa actual ---
+
+    int getEntityCount();
+
+    int getPlayerCount();
+
+    int getEnemyCount();
+
+    int getFruitCount();
+
+    int getIceBlockCount();
+
+    int getBlockCount();
+
+    /** Entidades que se actualizan en cada tick. */
+    int getAwakeEntityCount();
+
+    /** Temporizadores pendientes en el mapa. */
+    int getScheduledTimerCount();
+
+    // --- Hielo ---
+
+    /** Bloques de hielo creados durante la partida (sin contar los del nivel). */
+    long getIceBlocksCreated();
+
+    long getIceBlocksDestroyed();
+
+    double getIceBlocksCreatedPerSecond();
+
+    double getIceBlocksDestroyedPerSecond();
+
+    // --- Búsqueda de caminos (todo el proceso) ---
+
+    long getPathfindingCalls();
+
+    /** Celdas expandidas por búsqueda, en media. */
+    double getAverageExpandedNodes();
+
+    // --- Vista ---
+
+    /** Fotogramas pintados por segundo en el último segundo. */
+    double getRenderFps();
+
+    // --- Partida ---
+
+    String getState();
+
+    int getLevel();
+
+    int getScore();
+
+    int getFruitsCollected();
+
+    int getTotalFruits();
+}
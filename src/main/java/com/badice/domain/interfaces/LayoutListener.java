@@ -0,0 +1,13 @@
+package com.badice.domain.interfaces;
+
+/**
+ * Observador de cambios en los obstáculos del mapa (terreno, bloques, hielo).
+ */
+public interface LayoutListener {
+    /**
+     * Se invoca cuando una celda pasa a ser obstáculo o deja de serlo.
+     *
+     * @param cell índice de celda ({@code y * width + x})
+     */
+    void onObstacleChanged(int cell);
+}
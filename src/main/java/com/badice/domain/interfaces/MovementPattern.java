@@ -4,6 +4,7 @@ import com.badice.domain.entities.GameEntity;
 import com.badice.domain.entities.GameMap;
 import com.badice.domain.entities.Direction;
 import com.badice.domain.entities.Enemy;
+import com.badice.domain.services.NavigationService;
 import java.io.Serializable;
 
 /**
@@ -40,4 +41,10 @@ public interface MovementPattern extends Serializable {
      */
     default void setMap(GameMap map) {
     }
+
+    /**
+     * Establece los campos de distancia compartidos del tick actual.
+     */
+    default void setNavigation(NavigationService navigation) {
+    }
 }
@@ -0,0 +1,21 @@
+package com.badice.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Un fotograma pintado por la vista ({@code GamePanel.paintComponent}).
+ */
+@Name("com.badice.Frame")
+@Label("Fotograma")
+@Category({"Bad Ice Cream", "Vista"})
+@StackTrace(false)
+public final class FrameEvent extends jdk.jfr.Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Sprites")
+    public int sprites;
+}
@@ -0,0 +1,22 @@
+package com.badice.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Carga de un nivel desde su archivo ({@code LevelLoader.loadLevel}).
+ */
+@Name("com.badice.LevelLoad")
+@Label("Carga de nivel")
+@Category({"Bad Ice Cream", "Niveles"})
+public final class LevelLoadEvent extends jdk.jfr.Event {
+    @Label("Nivel")
+    public int level;
+
+    @Label("Fases")
+    public int phases;
+
+    @Label("Correcta")
+    public boolean success;
+}
@@ -0,0 +1,24 @@
+package com.badice.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Una búsqueda de {@code PathFinder.getNextStep}.
+ */
+@Name("com.badice.PathSearch")
+@Label("Búsqueda de camino")
+@Category({"Bad Ice Cream", "IA"})
+@StackTrace(false)
+public final class PathSearchEvent extends jdk.jfr.Event {
+    @Label("Celdas expandidas")
+    public int expandedNodes;
+
+    @Label("Longitud del camino")
+    public int pathLength; // -1 si no hay camino
+
+    @Label("Encontrado")
+    public boolean found;
+}
@@ -0,0 +1,33 @@
+package com.badice.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Guardado o carga de una partida o de una repetición
+ * ({@code PersistenceService}).
+ */
+@Name("com.badice.Persistence")
+@Label("Persistencia")
+@Category({"Bad Ice Cream", "Persistencia"})
+public final class PersistenceEvent extends jdk.jfr.Event {
+    public static final String SAVE = "save";
+    public static final String LOAD = "load";
+    public static final String SAVE_REPLAY = "save-replay";
+    public static final String LOAD_REPLAY = "load-replay";
+
+    @Label("Operación")
+    public String operation;
+
+    @Label("Archivo")
+    public String file;
+
+    @Label("Tamaño")
+    @DataAmount
+    public long bytes;
+
+    @Label("Correcta")
+    public boolean success;
+}
@@ -0,0 +1,29 @@
+package com.badice.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Un tick del motor ({@code GameEngine.update()}).
+ */
+@Name("com.badice.Tick")
+@Label("Tick del motor")
+@Category({"Bad Ice Cream", "Motor"})
+@StackTrace(false)
+public final class TickEvent extends jdk.jfr.Event {
+    @Label("Tick")
+    @Description("Tick del reloj de juego al terminar")
+    public long tick;
+
+    @Label("Estado")
+    public String state;
+
+    @Label("Entidades")
+    public int entities;
+
+    @Label("Entidades despiertas")
+    public int awakeEntities;
+}
@@ -0,0 +1,185 @@
+package com.badice.domain.models;
+
+import com.badice.domain.entities.Direction;
+import com.badice.domain.entities.IceBlock;
+import com.badice.domain.entities.TerrainGrid;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fotografía inmutable de un tick, publicada por el hilo de simulación para
+ * que la vista la dibuje sin tocar el estado vivo del juego.
+ */
+public final class FrameSnapshot {
+
+    /**
+     * Tipo visual de una entidad.
+     */
+    public enum Kind {
+        PLAYER,
+        BASIC_ENEMY,
+        TROLL,
+        POT,
+        SQUID,
+        NARVAL,
+        FRUIT,
+        CACTUS,
+        ICE,
+        CAMPFIRE,
+        HOT_TILE,
+        BLOCK
+    }
+
+    /**
+     * Datos de dibujo de una entidad activa.
+     */
+    public static final class Sprite {
+        private final Kind kind;
+        private final int x;
+        private final int y;
+        private final Direction direction;
+        private final String variant;
+        private final boolean flag;
+        private final IceBlock.IceState iceState;
+
+        /**
+         * @param variant color del jugador, tipo de fruta o tipo de bloque
+         * @param flag    narval embistiendo, calamar rompiendo hielo, cactus
+         *                peligroso o fogata encendida
+         */
+        public Sprite(Kind kind, int x, int y, Direction direction, String variant, boolean flag,
+                IceBlock.IceState iceState) {
+            this.kind = kind;
+            this.x = x;
+            this.y = y;
+            this.direction = direction;
+            this.variant = variant;
+            this.flag = flag;
+            this.iceState = iceState;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+
+        public String getVariant() {
+            return variant;
+        }
+
+        public boolean getFlag() {
+            return flag;
+        }
+
+        public IceBlock.IceState getIceState() {
+            return iceState;
+        }
+    }
+
+    private final long tick;
+    private final int mapWidth;
+    private final int mapHeight;
+    private final TerrainGrid terrain;
+    private final List<Sprite> sprites;
+
+    // HUD
+    private final int lives; // -1 si no hay jugador
+    private final int score;
+    private final int level;
+    private final int fruitsCollected;
+    private final int totalFruits;
+    private final long elapsedTime;
+
+    // Estado
+    private final String stateName;
+
+    /**
+     * @param sprites en orden de dibujo (fondo primero); no se copia
+     */
+    public FrameSnapshot(long tick, int mapWidth, int mapHeight, TerrainGrid terrain, List<Sprite> sprites,
+            int lives, int score, int level, int fruitsCollected, int totalFruits, long elapsedTime,
+            String stateName) {
+        this.tick = tick;
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.terrain = terrain;
+        this.sprites = Collections.unmodifiableList(sprites);
+        this.lives = lives;
+        this.score = score;
+        this.level = level;
+        this.fruitsCollected = fruitsCollected;
+        this.totalFruits = totalFruits;
+        this.elapsedTime = elapsedTime;
+        this.stateName = stateName;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Indica si había un mapa cargado; si no, solo el HUD y el estado son válidos.
+     */
+    public boolean hasMap() {
+        return terrain != null;
+    }
+
+    public int getMapWidth() {
+        return mapWidth;
+    }
+
+    public int getMapHeight() {
+        return mapHeight;
+    }
+
+    public TerrainGrid getTerrain() {
+        return terrain;
+    }
+
+    public List<Sprite> getSprites() {
+        return sprites;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getFruitsCollected() {
+        return fruitsCollected;
+    }
+
+    public int getTotalFruits() {
+        return totalFruits;
+    }
+
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Nombre del estado del juego (ver {@code GameState#getStateName()}).
+     */
+    public String getStateName() {
+        return stateName;
+    }
+}
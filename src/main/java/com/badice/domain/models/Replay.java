@@ -0,0 +1,367 @@
+package com.badice.domain.models;
+
+import com.badice.domain.entities.Direction;
+import com.badice.domain.enums.BotProfile;
+import com.badice.domain.enums.GameMode;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Repetición de un intento de nivel: con qué se empezó (semilla, nivel, modo,
+ * bots) y las entradas de los jugadores, tick a tick. Como la simulación es
+ * determinista, basta con eso para volver a jugarla igual (ver
+ * {@code ReplayPlayer}).
+ * <p>
+ * Formato binario ({@link #write}): cabecera y, por cada entrada, la distancia
+ * en ticks a la anterior (entero variable) y un byte con acción, dirección y
+ * jugador. Unos minutos de partida ocupan unos pocos KB.
+ * <p>
+ * Al final van los fotogramas clave: el estado completo del motor cada cierto
+ * número de ticks (ver {@code ReplayRecorder}), comprimido. No hacen falta para
+ * reproducirla, pero permiten saltar a cualquier tick sin simular desde el
+ * principio ({@code ReplayPlayer#seek}).
+ */
+public final class Replay {
+    private static final int MAGIC = 0x42494352; // "BICR"
+    private static final int VERSION = 2; // 2: fotogramas clave y generador GameRandom
+    private static final int NO_DIRECTION = 7;
+
+    /**
+     * Entrada de un jugador, tal como llegó al motor.
+     */
+    public enum Action {
+        MOVE,
+        CREATE_ICE,
+        DESTROY_ICE,
+        /** Vuelta al estado de juego (p. ej. al quitar la pausa): reinicia el tiempo límite. */
+        RESET_TIMER
+    }
+
+    private final long seed;
+    private final int level;
+    private final GameMode mode;
+    private final BotProfile bot1;
+    private final BotProfile bot2;
+    private final int startScore;
+    private final int startFruits;
+    private final long ticks;
+    private final long[] eventTicks;
+    private final byte[] eventCodes;
+    private final long[] keyframeTicks;
+    private final byte[][] keyframes;
+
+    private Replay(Builder builder, long ticks) {
+        this.seed = builder.seed;
+        this.level = builder.level;
+        this.mode = builder.mode;
+        this.bot1 = builder.bot1;
+        this.bot2 = builder.bot2;
+        this.startScore = builder.startScore;
+        this.startFruits = builder.startFruits;
+        this.ticks = ticks;
+        this.eventTicks = Arrays.copyOf(builder.eventTicks, builder.count);
+        this.eventCodes = Arrays.copyOf(builder.eventCodes, builder.count);
+        this.keyframeTicks = Arrays.copyOf(builder.keyframeTicks, builder.keyframeCount);
+        this.keyframes = Arrays.copyOf(builder.keyframes, builder.keyframeCount);
+    }
+
+    /** Semilla del nivel (ver {@code GameEngine#getLevelSeed()}). */
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /** Perfil del bot 1, o null si no se eligió. */
+    public BotProfile getBot1() {
+        return bot1;
+    }
+
+    public BotProfile getBot2() {
+        return bot2;
+    }
+
+    /** Puntuación acumulada al empezar el nivel. */
+    public int getStartScore() {
+        return startScore;
+    }
+
+    /**
+     * Frutas contadas al empezar el nivel (al reiniciar un nivel no se ponen
+     * a cero).
+     */
+    public int getStartFruits() {
+        return startFruits;
+    }
+
+    /** Ticks de simulación que duró el intento. */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getEventCount() {
+        return eventTicks.length;
+    }
+
+    /**
+     * Tick del reloj de juego antes del cual se aplicó la entrada {@code i}.
+     */
+    public long getEventTick(int i) {
+        return eventTicks[i];
+    }
+
+    public Action getAction(int i) {
+        return Action.values()[eventCodes[i] >> 5];
+    }
+
+    /** Dirección de la entrada {@code i}, o null si no lleva. */
+    public Direction getDirection(int i) {
+        int direction = (eventCodes[i] >> 2) & 7;
+        return direction == NO_DIRECTION ? null : Direction.values()[direction];
+    }
+
+    public int getPlayerIndex(int i) {
+        return eventCodes[i] & 3;
+    }
+
+    public int getKeyframeCount() {
+        return keyframeTicks.length;
+    }
+
+    /**
+     * Tick del reloj en el que se tomó el fotograma clave {@code i}, antes de
+     * las entradas de ese tick.
+     */
+    public long getKeyframeTick(int i) {
+        return keyframeTicks[i];
+    }
+
+    /** Estado del motor en el fotograma clave {@code i} (una copia). */
+    public byte[] getKeyframe(int i) {
+        return keyframes[i].clone();
+    }
+
+    /**
+     * Índice del último fotograma clave tomado en {@code tick} o antes, o -1
+     * si no hay ninguno.
+     */
+    public int findKeyframe(long tick) {
+        int index = Arrays.binarySearch(keyframeTicks, tick);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Escribe la repetición en formato binario.
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        writeVarLong(out, level);
+        out.writeUTF(mode.name());
+        out.writeUTF(bot1 != null ? bot1.name() : "");
+        out.writeUTF(bot2 != null ? bot2.name() : "");
+        writeVarLong(out, startScore);
+        writeVarLong(out, startFruits);
+        writeVarLong(out, ticks);
+        writeVarLong(out, eventTicks.length);
+        long previous = 0;
+        for (int i = 0; i < eventTicks.length; i++) {
+            writeVarLong(out, eventTicks[i] - previous);
+            out.writeByte(eventCodes[i]);
+            previous = eventTicks[i];
+        }
+        writeVarLong(out, keyframeTicks.length);
+        previous = 0;
+        for (int i = 0; i < keyframeTicks.length; i++) {
+            writeVarLong(out, keyframeTicks[i] - previous);
+            writeVarLong(out, keyframes[i].length);
+            out.write(keyframes[i]);
+            previous = keyframeTicks[i];
+        }
+    }
+
+    /**
+     * Lee una repetición escrita con {@link #write}.
+     *
+     * @throws IOException si los datos no son una repetición o están cortados
+     */
+    public static Replay read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("No es un archivo de repetición");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Versión de repetición no soportada: " + version);
+        }
+        try {
+            long seed = in.readLong();
+            int level = (int) readVarLong(in);
+            GameMode mode = GameMode.valueOf(in.readUTF());
+            BotProfile bot1 = readProfile(in);
+            BotProfile bot2 = readProfile(in);
+            int startScore = (int) readVarLong(in);
+            int startFruits = (int) readVarLong(in);
+            long ticks = readVarLong(in);
+            long count = readVarLong(in);
+
+            Builder builder = new Builder(seed, level, mode, bot1, bot2, startScore, startFruits);
+            long tick = 0;
+            for (long i = 0; i < count; i++) {
+                tick += readVarLong(in);
+                byte code = in.readByte();
+                if (!isValidCode(code)) {
+                    throw new IOException("Entrada no válida en la repetición: " + code);
+                }
+                builder.add(tick, code);
+            }
+            count = readVarLong(in);
+            tick = 0;
+            for (long i = 0; i < count; i++) {
+                tick += readVarLong(in);
+                long length = readVarLong(in);
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("Fotograma clave demasiado grande: " + length);
+                }
+                byte[] state = new byte[(int) length];
+                in.readFully(state);
+                builder.addKeyframe(tick, state);
+            }
+            return builder.build(ticks);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Repetición corrupta: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isValidCode(byte code) {
+        int direction = (code >> 2) & 7;
+        return code >= 0 && code >> 5 < Action.values().length
+                && (direction < Direction.values().length || direction == NO_DIRECTION);
+    }
+
+    private static BotProfile readProfile(DataInput in) throws IOException {
+        String name = in.readUTF();
+        return name.isEmpty() ? null : BotProfile.valueOf(name);
+    }
+
+    // Enteros no negativos en 7 bits por byte: los valores pequeños ocupan uno
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Valor negativo en la repetición: " + value);
+        }
+        while (value >= 0x80) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Entero demasiado largo en la repetición");
+    }
+
+    /**
+     * Va acumulando las entradas de un intento en curso.
+     */
+    public static final class Builder {
+        private final long seed;
+        private final int level;
+        private final GameMode mode;
+        private final BotProfile bot1;
+        private final BotProfile bot2;
+        private final int startScore;
+        private final int startFruits;
+        private long[] eventTicks = new long[64];
+        private byte[] eventCodes = new byte[64];
+        private int count;
+        private long[] keyframeTicks = new long[8];
+        private byte[][] keyframes = new byte[8][];
+        private int keyframeCount;
+
+        public Builder(long seed, int level, GameMode mode, BotProfile bot1, BotProfile bot2, int startScore,
+                int startFruits) {
+            this.seed = seed;
+            this.level = level;
+            this.mode = java.util.Objects.requireNonNull(mode);
+            this.bot1 = bot1;
+            this.bot2 = bot2;
+            this.startScore = startScore;
+            this.startFruits = startFruits;
+        }
+
+        /**
+         * Añade una entrada; los ticks deben llegar en orden no decreciente.
+         */
+        public Builder add(long tick, Action action, Direction direction, int playerIndex) {
+            if (playerIndex < 0 || playerIndex > 3) {
+                throw new IllegalArgumentException("Índice de jugador fuera de rango: " + playerIndex);
+            }
+            int directionCode = direction != null ? direction.ordinal() : NO_DIRECTION;
+            return add(tick, (byte) (action.ordinal() << 5 | directionCode << 2 | playerIndex));
+        }
+
+        private Builder add(long tick, byte code) {
+            if (count > 0 && tick < eventTicks[count - 1]) {
+                throw new IllegalArgumentException("Entrada fuera de orden en el tick " + tick);
+            }
+            if (count == eventTicks.length) {
+                eventTicks = Arrays.copyOf(eventTicks, count * 2);
+                eventCodes = Arrays.copyOf(eventCodes, count * 2);
+            }
+            eventTicks[count] = tick;
+            eventCodes[count] = code;
+            count++;
+            return this;
+        }
+
+        public int getEventCount() {
+            return count;
+        }
+
+        /**
+         * Añade un fotograma clave; los ticks deben llegar en orden creciente.
+         */
+        public Builder addKeyframe(long tick, byte[] state) {
+            if (keyframeCount > 0 && tick <= keyframeTicks[keyframeCount - 1]) {
+                throw new IllegalArgumentException("Fotograma clave fuera de orden en el tick " + tick);
+            }
+            if (keyframeCount == keyframeTicks.length) {
+                keyframeTicks = Arrays.copyOf(keyframeTicks, keyframeCount * 2);
+                keyframes = Arrays.copyOf(keyframes, keyframeCount * 2);
+            }
+            keyframeTicks[keyframeCount] = tick;
+            keyframes[keyframeCount] = java.util.Objects.requireNonNull(state);
+            keyframeCount++;
+            return this;
+        }
+
+        public int getKeyframeCount() {
+            return keyframeCount;
+        }
+
+        /**
+         * Repetición con las entradas hasta ahora y {@code ticks} de duración.
+         * El constructor puede seguir usándose después.
+         */
+        public Replay build(long ticks) {
+            return new Replay(this, ticks);
+        }
+    }
+}
@@ -8,15 +8,45 @@ import com.badice.domain.entities.Position;
 import com.badice.domain.entities.IceBlock;
 import com.badice.domain.entities.SquidEnemy;
 import com.badice.domain.interfaces.MovementPattern;
+import com.badice.domain.services.NavigationService;
 
 /**
  * Patrón de movimiento que persigue al jugador.
+ * Con campos de distancia disponibles sigue el camino más corto hacia el
+ * jugador activo más cercano; si no, se acerca en línea recta.
  */
 public class ChaseMovementPattern implements MovementPattern {
     private static final long serialVersionUID = 1L;
 
+    private transient NavigationService navigation;
+
+    @Override
+    public void setNavigation(NavigationService navigation) {
+        this.navigation = navigation;
+    }
+
     @Override
     public Direction calculateNextDirection(Enemy enemy, GameMap map) {
+        boolean isSquid = enemy instanceof SquidEnemy;
+
+        if (navigation != null) {
+            Direction step = navigation.stepTowardsNearestPlayer(enemy.getPosition(), isSquid,
+                    dir -> canEnter(enemy, dir, map, isSquid));
+            if (step != null) {
+                if (isSquid) {
+                    Position nextPos = enemy.getPosition().move(step);
+                    if (map.hasIceAt(nextPos)) {
+                        ((SquidEnemy) enemy).breakIceAt(nextPos, map);
+                    }
+                }
+                return step;
+            }
+        }
+
+        return calculateGreedyDirection(enemy, map, isSquid);
+    }
+
+    private Direction calculateGreedyDirection(Enemy enemy, GameMap map, boolean isSquid) {
         Player player = map.getPlayer();
         if (player == null || !player.isActive()) {
             return Direction.NONE;
@@ -32,9 +62,6 @@ public class ChaseMovementPattern implements MovementPattern {
         Direction horizontalDir = (dx > 0) ? Direction.RIGHT : Direction.LEFT;
         Direction verticalDir = (dy > 0) ? Direction.DOWN : Direction.UP;
 
-        // Si es un SquidEnemy, verificar y romper hielos en el camino
-        boolean isSquid = enemy instanceof SquidEnemy;
-
         // Intentar moverse en el eje con mayor distancia primero
         if (Math.abs(dx) > Math.abs(dy)) {
             // Preferencia horizontal
@@ -64,10 +91,7 @@ public class ChaseMovementPattern implements MovementPattern {
 
         // Si es un calamar, verificar si hay hielo y romperlo
         if (isSquid) {
-            boolean hasIce = map.getEntities().stream()
-                    .filter(e -> e instanceof IceBlock)
-                    .filter(e -> e.isActive())
-                    .anyMatch(e -> e.getPosition().equals(nextPos));
+            boolean hasIce = map.getEntityAt(nextPos, IceBlock.class) != null;
 
             if (hasIce) {
                 // Romper el hielo
@@ -78,14 +102,18 @@ public class ChaseMovementPattern implements MovementPattern {
         }
 
         // Verificar si está bloqueado por algo que NO sea un jugador ni hielo
-        return !map.getEntities().stream()
-                .filter(e -> e.isActive() && e instanceof com.badice.domain.interfaces.Collidable)
-                .filter(e -> !(e instanceof IceBlock) || !isSquid) // Ignorar hielos SOLO si soy Squid (ya revisé
-                                                                   // arriba)
-                .map(e -> (com.badice.domain.interfaces.Collidable) e)
-                .filter(com.badice.domain.interfaces.Collidable::isSolid)
-                .filter(e -> !(e instanceof Player)) // Ignorar al jugador
-                .anyMatch(e -> e.getCollisionPosition().equals(nextPos));
+        // Ignorar al jugador, y los hielos SOLO si soy Squid (ya revisé arriba)
+        return !map.isPositionBlocked(nextPos,
+                e -> e instanceof Player || (isSquid && e instanceof IceBlock));
+    }
+
+    /**
+     * Como canMove, pero sin romper hielo: solo comprueba si la celda está libre.
+     */
+    private boolean canEnter(Enemy enemy, Direction dir, GameMap map, boolean isSquid) {
+        Position nextPos = enemy.getPosition().move(dir);
+        return map.isValidPosition(nextPos) && !map.isPositionBlocked(nextPos,
+                e -> e instanceof Player || (isSquid && e instanceof IceBlock));
     }
 
     @Override
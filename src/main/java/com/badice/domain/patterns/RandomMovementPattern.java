@@ -5,24 +5,26 @@ import com.badice.domain.entities.Enemy;
 import com.badice.domain.entities.GameMap;
 import com.badice.domain.interfaces.MovementPattern;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Patrón de movimiento aleatorio: el enemigo cambia de dirección
  * aleatoriamente.
+ * <p>
+ * El azar sale del generador del mapa (ver {@link GameMap#getRandom()}), así
+ * que la dirección inicial se elige en el primer movimiento y no al crearlo.
  */
 public class RandomMovementPattern implements MovementPattern {
     private static final long serialVersionUID = 1L;
     private static final Direction[] DIRECTIONS = Direction.values();
-    private final Random random;
-    private Direction currentDirection;
+    private transient RandomGenerator random; // el del último mapa visto
+    private Direction currentDirection; // null hasta el primer movimiento
     private int stepsTaken;
     private final int maxStepsBeforeChange;
 
     public RandomMovementPattern(int maxStepsBeforeChange) {
-        this.random = new Random();
         this.maxStepsBeforeChange = maxStepsBeforeChange;
-        this.currentDirection = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        this.currentDirection = null;
         this.stepsTaken = 0;
     }
 
@@ -32,6 +34,10 @@ public class RandomMovementPattern implements MovementPattern {
 
     @Override
     public Direction calculateNextDirection(Enemy enemy, GameMap map) {
+        random = map.getRandom();
+        if (currentDirection == null) {
+            currentDirection = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        }
         var nextPosition = enemy.getPosition().move(currentDirection);
 
         // Si la posición está bloqueada (por algo que no sea jugador), elegir nueva
@@ -64,15 +70,24 @@ public class RandomMovementPattern implements MovementPattern {
         stepsTaken++;
 
         // Cambiar de dirección aleatoriamente después de ciertos pasos
-        if (stepsTaken >= maxStepsBeforeChange && random.nextDouble() < 0.3) {
+        if (random != null && stepsTaken >= maxStepsBeforeChange && random.nextDouble() < 0.3) {
             currentDirection = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
             stepsTaken = 0;
         }
     }
 
+    /**
+     * Toma el generador del mapa sin esperar al primer movimiento: tras
+     * cargar un mapa guardado, {@link #update()} puede llegar antes.
+     */
+    @Override
+    public void setMap(GameMap map) {
+        this.random = map.getRandom();
+    }
+
     @Override
     public void reset() {
-        this.currentDirection = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        this.currentDirection = null;
         this.stepsTaken = 0;
     }
 
@@ -82,11 +97,6 @@ public class RandomMovementPattern implements MovementPattern {
         }
 
         // Verificar si está bloqueado por algo que NO sea un jugador
-        return !map.getEntities().stream()
-                .filter(e -> e.isActive() && e instanceof com.badice.domain.interfaces.Collidable)
-                .map(e -> (com.badice.domain.interfaces.Collidable) e)
-                .filter(com.badice.domain.interfaces.Collidable::isSolid)
-                .filter(e -> !(e instanceof com.badice.domain.entities.Player)) // Ignorar al jugador
-                .anyMatch(e -> e.getCollisionPosition().equals(pos));
+        return !map.isPositionBlocked(pos, e -> e instanceof com.badice.domain.entities.Player);
     }
 }
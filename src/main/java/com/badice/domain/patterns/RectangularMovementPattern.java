@@ -59,11 +59,6 @@ public class RectangularMovementPattern implements MovementPattern {
         }
 
         // Verificar si está bloqueado por algo que NO sea un jugador
-        return !map.getEntities().stream()
-                .filter(e -> e.isActive() && e instanceof com.badice.domain.interfaces.Collidable)
-                .map(e -> (com.badice.domain.interfaces.Collidable) e)
-                .filter(com.badice.domain.interfaces.Collidable::isSolid)
-                .filter(e -> !(e instanceof Player)) // Ignorar al jugador
-                .anyMatch(e -> e.getCollisionPosition().equals(pos));
+        return !map.isPositionBlocked(pos, e -> e instanceof Player);
     }
 }
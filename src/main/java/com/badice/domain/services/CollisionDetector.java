@@ -10,17 +10,26 @@ import java.util.List;
  * Servicio que detecta y maneja colisiones entre entidades.
  */
 public class CollisionDetector {
+    private boolean quiet;
+
+    /**
+     * Silencia los mensajes de consola (ver {@link GameEngine#setQuiet}).
+     */
+    void setQuiet(boolean quiet) {
+        this.quiet = quiet;
+    }
+
+    private void announce(String message) {
+        if (!quiet) {
+            System.out.println(message);
+        }
+    }
 
     /**
      * Verifica si una posición colisiona con una entidad sólida.
      */
     public boolean willCollideWithSolid(Position position, GameMap map) {
-        return map.getEntities().stream()
-                .filter(GameEntity::isActive)
-                .filter(entity -> entity instanceof Collidable)
-                .map(entity -> (Collidable) entity)
-                .filter(Collidable::isSolid)
-                .anyMatch(collidable -> collidable.getCollisionPosition().equals(position));
+        return map.isPositionBlocked(position);
     }
 
     /**
@@ -29,7 +38,8 @@ public class CollisionDetector {
     public List<GameEntity> detectPlayerCollisions(Player player, GameMap map) {
         List<GameEntity> collisions = new ArrayList<>();
 
-        for (GameEntity entity : map.getEntities()) {
+        // Todas las colisiones son por posición: basta con mirar la celda del jugador
+        for (GameEntity entity : map.getEntitiesAt(player.getPosition())) {
             if (!entity.isActive() || entity.equals(player)) {
                 continue;
             }
@@ -73,7 +83,7 @@ public class CollisionDetector {
                 CactusFruit cactus = (CactusFruit) entity;
                 if (cactus.killsPlayerOnContact()) {
                     // El jugador muere al tocar un cactus peligroso
-                    System.out.println("¡Jugador colisionó con cactus peligroso!");
+                    announce("¡Jugador colisionó con cactus peligroso!");
                     return true; // Indicar muerte fatal
                 } else if (!cactus.isCollected()) {
                     // Solo recolectar si está seguro
@@ -102,7 +112,7 @@ public class CollisionDetector {
 
         // ADICIONAL: Verificar fogatas en la posición actual del jugador
         // (para cuando el jugador está quieto sobre una fogata)
-        for (GameEntity entity : map.getEntities()) {
+        for (GameEntity entity : map.getEntitiesAt(player.getPosition())) {
             if (entity instanceof Campfire && entity.isActive()) {
                 Campfire campfire = (Campfire) entity;
                 if (campfire.isLit() && campfire.getPosition().equals(player.getPosition())) {
@@ -122,22 +132,14 @@ public class CollisionDetector {
         player.loseLife();
 
         // Podrías resetear la posición del jugador aquí
-        System.out.println("¡Colisión con enemigo! Vidas restantes: " + player.getLives());
+        announce("¡Colisión con enemigo! Vidas restantes: " + player.getLives());
     }
 
     /**
      * Obtiene todas las entidades en una posición específica.
      */
     public List<GameEntity> getEntitiesAt(Position position, GameMap map) {
-        List<GameEntity> entities = new ArrayList<>();
-
-        for (GameEntity entity : map.getEntities()) {
-            if (entity.isActive() && entity.getPosition().equals(position)) {
-                entities.add(entity);
-            }
-        }
-
-        return entities;
+        return map.getEntitiesAt(position);
     }
 
     /**
@@ -146,7 +148,7 @@ public class CollisionDetector {
      */
     private boolean handlePlayerCampfireCollision(Player player, Campfire campfire) {
         // El jugador muere instantáneamente
-        System.out.println("¡Jugador colisionó con fogata!");
+        announce("¡Jugador colisionó con fogata!");
         return true; // Indicar que ocurrió una muerte fatal
     }
 }
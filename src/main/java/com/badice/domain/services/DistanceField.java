@@ -0,0 +1,118 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.Direction;
+import com.badice.domain.entities.GameMap;
+import com.badice.domain.entities.PackedPosition;
+import com.badice.domain.entities.Position;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Campo de distancias (en pasos) desde una o varias celdas origen, calculado
+ * con una BFS sobre las celdas del mapa. Una vez calculado, cualquier entidad
+ * obtiene su siguiente paso hacia el origen más cercano en O(1).
+ */
+public final class DistanceField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private int width;
+    private int height;
+    private int[] distances = new int[0];
+    private int[] queue = new int[0];
+
+    /**
+     * Recalcula el campo desde las celdas origen dadas.
+     *
+     * @param blocked indica qué celdas no se pueden atravesar (los orígenes
+     *                siempre se incluyen)
+     */
+    public void compute(GameMap map, int[] sources, int sourceCount, IntPredicate blocked) {
+        this.width = map.getWidth();
+        this.height = map.getHeight();
+        int cells = width * height;
+        if (distances.length < cells) {
+            distances = new int[cells];
+            queue = new int[cells];
+        }
+        Arrays.fill(distances, 0, cells, UNREACHABLE);
+
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < sourceCount; i++) {
+            int source = sources[i];
+            if (source >= 0 && distances[source] != 0) {
+                distances[source] = 0;
+                queue[tail++] = source;
+            }
+        }
+
+        while (head < tail) {
+            int current = queue[head++];
+            int nextDistance = distances[current] + 1;
+            for (int i = 0; i < PackedPosition.CARDINAL_COUNT; i++) {
+                int next = PackedPosition.neighbourCell(current, PackedPosition.cardinal(i), width, height);
+                if (next >= 0 && distances[next] == UNREACHABLE && !blocked.test(next)) {
+                    distances[next] = nextDistance;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        PathFinder.recordSearch(tail);
+    }
+
+    /**
+     * Distancia desde la posición al origen más cercano, o {@link #UNREACHABLE}.
+     */
+    public int distanceAt(Position position) {
+        int cell = PackedPosition.cellIndex(position.getX(), position.getY(), width, height);
+        return cell < 0 ? UNREACHABLE : distances[cell];
+    }
+
+    /**
+     * Siguiente paso que acerca al origen más cercano, entre las direcciones
+     * aceptadas por {@code canMove}. Devuelve null si ya está en un origen o no
+     * hay ningún paso que acerque.
+     */
+    public Direction stepFrom(Position from, Predicate<Direction> canMove) {
+        int cell = PackedPosition.cellIndex(from.getX(), from.getY(), width, height);
+        if (cell < 0) {
+            return null;
+        }
+        int best = distances[cell];
+        Direction bestDirection = null;
+        for (int i = 0; i < PackedPosition.CARDINAL_COUNT; i++) {
+            Direction direction = PackedPosition.cardinal(i);
+            int next = PackedPosition.neighbourCell(cell, direction, width, height);
+            if (next >= 0 && distances[next] < best && canMove.test(direction)) {
+                best = distances[next];
+                bestDirection = direction;
+            }
+        }
+        return bestDirection;
+    }
+
+    /**
+     * Paso que más aleja de los orígenes entre las direcciones aceptadas por
+     * {@code canMove} (las celdas inalcanzables cuentan como las más lejanas).
+     * Devuelve null si no se acepta ninguna dirección.
+     */
+    public Direction stepAwayFrom(Position from, Predicate<Direction> canMove) {
+        int cell = PackedPosition.cellIndex(from.getX(), from.getY(), width, height);
+        if (cell < 0) {
+            return null;
+        }
+        int best = -1;
+        Direction bestDirection = null;
+        for (int i = 0; i < PackedPosition.CARDINAL_COUNT; i++) {
+            Direction direction = PackedPosition.cardinal(i);
+            int next = PackedPosition.neighbourCell(cell, direction, width, height);
+            if (next >= 0 && distances[next] > best && canMove.test(direction)) {
+                best = distances[next];
+                bestDirection = direction;
+            }
+        }
+        return bestDirection;
+    }
+}
@@ -0,0 +1,264 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.Direction;
+import com.badice.domain.entities.GameMap;
+import com.badice.domain.entities.PackedPosition;
+import com.badice.domain.interfaces.LayoutListener;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Tabla de distancias entre todos los pares de celdas del mapa, sobre la capa
+ * de obstáculos que usan los bots (terreno, bloques y hielo).
+ * <p>
+ * Se construye una vez por mapa y se repara de forma incremental a medida que
+ * el mapa notifica cambios: al liberar una celda se relajan todos los pares a
+ * través de ella; al bloquearla solo se recalculan las filas cuyos caminos
+ * mínimos pasaban por ella. Los cambios se acumulan y se aplican en la
+ * siguiente consulta; si son muchos, se reconstruye la tabla entera.
+ */
+public final class DistanceTable implements LayoutListener {
+    /** Mayor mapa (en celdas) para el que se mantiene la tabla. */
+    public static final int MAX_CELLS = 2048;
+
+    private static final short NONE = -1;
+
+    private GameMap map;
+    private int width;
+    private int height;
+    private int cells;
+    private short[] distances = new short[0];
+    private BitSet blocked = new BitSet(); // obstáculos que refleja la tabla
+    private int[] queue = new int[0];
+    private int[] affected = new int[0];
+
+    private int[] pending = new int[16];
+    private int pendingCount;
+    private boolean rebuildNeeded;
+
+    /**
+     * Indica si la tabla puede usarse con un mapa de este tamaño.
+     */
+    public static boolean supports(GameMap map) {
+        return map.getWidth() * map.getHeight() <= MAX_CELLS;
+    }
+
+    /**
+     * Empieza a seguir un mapa (y deja de seguir el anterior).
+     */
+    public void attach(GameMap map) {
+        detach();
+        this.map = map;
+        this.width = map.getWidth();
+        this.height = map.getHeight();
+        this.cells = width * height;
+        if (distances.length < cells * cells) {
+            distances = new short[cells * cells];
+        }
+        if (queue.length < cells) {
+            queue = new int[cells];
+            affected = new int[cells];
+        }
+        map.addLayoutListener(this);
+        rebuildNeeded = true;
+    }
+
+    public void detach() {
+        if (map != null) {
+            map.removeLayoutListener(this);
+            map = null;
+        }
+        pendingCount = 0;
+    }
+
+    public boolean isAttached() {
+        return map != null;
+    }
+
+    @Override
+    public void onObstacleChanged(int cell) {
+        if (rebuildNeeded) {
+            return;
+        }
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pendingCount * 2);
+        }
+        pending[pendingCount++] = cell;
+        // Con muchos cambios sale más barato reconstruir
+        if (pendingCount > cells / 8) {
+            rebuildNeeded = true;
+            pendingCount = 0;
+        }
+    }
+
+    /**
+     * Distancia en pasos entre dos celdas, o {@link DistanceField#UNREACHABLE}.
+     */
+    public int distance(int from, int to) {
+        sync();
+        short d = distances[from * cells + to];
+        return d == NONE ? DistanceField.UNREACHABLE : d;
+    }
+
+    /**
+     * Primer paso del camino mínimo entre dos celdas, o null si ya está en el
+     * destino o no hay camino.
+     */
+    public Direction step(int from, int to) {
+        int d = distance(from, to);
+        if (d == 0 || d == DistanceField.UNREACHABLE) {
+            return null;
+        }
+        for (int i = 0; i < PackedPosition.CARDINAL_COUNT; i++) {
+            Direction direction = PackedPosition.cardinal(i);
+            int next = PackedPosition.neighbourCell(from, direction, width, height);
+            if (next >= 0 && distances[next * cells + to] == d - 1) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    // --- Mantenimiento ---
+
+    private void sync() {
+        if (rebuildNeeded) {
+            rebuild();
+            return;
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            int cell = pending[i];
+            boolean nowBlocked = map.isObstacleCell(cell);
+            // Se compara con la copia propia: cada cambio se aplica sobre el
+            // estado que dejó el anterior
+            if (nowBlocked != blocked.get(cell)) {
+                if (nowBlocked) {
+                    block(cell);
+                } else {
+                    unblock(cell);
+                }
+            }
+        }
+        pendingCount = 0;
+    }
+
+    private void rebuild() {
+        blocked.clear();
+        for (int cell = 0; cell < cells; cell++) {
+            if (map.isObstacleCell(cell)) {
+                blocked.set(cell);
+            }
+        }
+        for (int source = 0; source < cells; source++) {
+            bfsRow(source);
+        }
+        rebuildNeeded = false;
+        pendingCount = 0;
+    }
+
+    /**
+     * Recalcula la fila (y la columna) de un origen con una BFS.
+     */
+    private void bfsRow(int source) {
+        int row = source * cells;
+        for (int cell = 0; cell < cells; cell++) {
+            distances[row + cell] = NONE;
+            distances[cell * cells + source] = NONE;
+        }
+        if (blocked.get(source)) {
+            return;
+        }
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        distances[row + source] = 0;
+        while (head < tail) {
+            int current = queue[head++];
+            short nextDistance = (short) (distances[row + current] + 1);
+            for (int i = 0; i < PackedPosition.CARDINAL_COUNT; i++) {
+                int next = PackedPosition.neighbourCell(current, PackedPosition.cardinal(i), width, height);
+                if (next >= 0 && distances[row + next] == NONE && !blocked.get(next)) {
+                    distances[row + next] = nextDistance;
+                    distances[next * cells + source] = nextDistance;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * La celda deja de ser obstáculo: se calcula su fila a partir de sus
+     * vecinos y se relajan todos los pares a través de ella (min-plus).
+     */
+    private void unblock(int v) {
+        blocked.clear(v);
+        int rowV = v * cells;
+        for (int x = 0; x < cells; x++) {
+            int best = NONE;
+            for (int i = 0; i < PackedPosition.CARDINAL_COUNT; i++) {
+                int u = PackedPosition.neighbourCell(v, PackedPosition.cardinal(i), width, height);
+                if (u >= 0 && !blocked.get(u)) {
+                    short du = distances[u * cells + x];
+                    if (du != NONE && (best == NONE || du + 1 < best)) {
+                        best = du + 1;
+                    }
+                }
+            }
+            distances[rowV + x] = (short) best;
+            distances[x * cells + v] = (short) best;
+        }
+        distances[rowV + v] = 0;
+
+        for (int a = 0; a < cells; a++) {
+            short av = distances[a * cells + v];
+            if (av == NONE) {
+                continue;
+            }
+            int rowA = a * cells;
+            for (int b = 0; b < cells; b++) {
+                short vb = distances[rowV + b];
+                if (vb == NONE) {
+                    continue;
+                }
+                int through = av + vb;
+                short current = distances[rowA + b];
+                if (current == NONE || through < current) {
+                    distances[rowA + b] = (short) through;
+                }
+            }
+        }
+    }
+
+    /**
+     * La celda pasa a ser obstáculo: solo cambian las filas con algún camino
+     * mínimo que pasaba por ella.
+     */
+    private void block(int v) {
+        int rowV = v * cells;
+        int affectedCount = 0;
+        for (int a = 0; a < cells; a++) {
+            short av = distances[a * cells + v];
+            if (a == v || av == NONE) {
+                continue;
+            }
+            int rowA = a * cells;
+            for (int b = 0; b < cells; b++) {
+                short vb = distances[rowV + b];
+                if (b != v && vb != NONE && av + vb == distances[rowA + b]) {
+                    affected[affectedCount++] = a;
+                    break;
+                }
+            }
+        }
+
+        blocked.set(v);
+        for (int x = 0; x < cells; x++) {
+            distances[rowV + x] = NONE;
+            distances[x * cells + v] = NONE;
+        }
+        for (int i = 0; i < affectedCount; i++) {
+            bfsRow(affected[i]);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.*;
+import com.badice.domain.interfaces.EntityVisitor;
+import com.badice.domain.models.FrameSnapshot;
+import com.badice.domain.models.FrameSnapshot.Kind;
+import com.badice.domain.models.FrameSnapshot.Sprite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Construye el {@link FrameSnapshot} de un tick. Debe llamarse desde el hilo
+ * que ejecuta la simulación.
+ */
+class FrameCapture implements EntityVisitor {
+    private List<Sprite> sprites;
+    private int x;
+    private int y;
+
+    FrameSnapshot capture(GameEngine engine, long tick) {
+        GameMap map = engine.getCurrentMap();
+        ScoreService score = engine.getScoreService();
+        Player player = engine.getPlayer();
+        String stateName = engine.getStateManager().getCurrentStateName();
+
+        sprites = new ArrayList<>(map != null ? map.entities().size() : 0);
+        if (map != null) {
+            // Mismo orden de capas que la vista: bloques, hielo, enemigos, jugadores, frutas
+            map.blocks().forEach(this::add);
+            map.iceBlocks().forEach(this::add);
+            map.enemies().forEach(this::add);
+            map.players().forEach(this::add);
+            map.fruits().forEach(this::add);
+        }
+        List<Sprite> captured = sprites;
+        sprites = null;
+
+        return new FrameSnapshot(tick,
+                map != null ? map.getWidth() : 0,
+                map != null ? map.getHeight() : 0,
+                map != null ? map.getTerrain() : null,
+                captured,
+                player != null ? player.getLives() : -1,
+                score.getCurrentScore(),
+                score.getCurrentLevel(),
+                score.getFruitsCollected(),
+                score.getTotalFruits(),
+                engine.getElapsedTime(),
+                stateName);
+    }
+
+    private void add(GameEntity entity) {
+        if (!entity.isActive()) {
+            return;
+        }
+        x = entity.getPosition().getX();
+        y = entity.getPosition().getY();
+        entity.accept(this);
+    }
+
+    private void add(Kind kind, Direction direction, String variant, boolean flag, IceBlock.IceState iceState) {
+        sprites.add(new Sprite(kind, x, y, direction, variant, flag, iceState));
+    }
+
+    @Override
+    public void visit(Player player) {
+        add(Kind.PLAYER, player.getCurrentDirection(), player.getPlayerColor(), false, null);
+    }
+
+    @Override
+    public void visit(BasicEnemy enemy) {
+        add(Kind.BASIC_ENEMY, enemy.getCurrentDirection(), null, false, null);
+    }
+
+    @Override
+    public void visit(TrollEnemy enemy) {
+        add(Kind.TROLL, enemy.getCurrentDirection(), null, false, null);
+    }
+
+    @Override
+    public void visit(PotEnemy enemy) {
+        add(Kind.POT, enemy.getCurrentDirection(), null, false, null);
+    }
+
+    @Override
+    public void visit(SquidEnemy enemy) {
+        add(Kind.SQUID, enemy.getCurrentDirection(), null, enemy.isBreakingIce(), null);
+    }
+
+    @Override
+    public void visit(NarvalEnemy enemy) {
+        add(Kind.NARVAL, enemy.getCurrentDirection(), null, enemy.isCharging(), null);
+    }
+
+    @Override
+    public void visit(BasicFruit fruit) {
+        addFruit(fruit);
+    }
+
+    @Override
+    public void visit(CherryFruit fruit) {
+        addFruit(fruit);
+    }
+
+    @Override
+    public void visit(PineappleFruit fruit) {
+        addFruit(fruit);
+    }
+
+    @Override
+    public void visit(CactusFruit fruit) {
+        if (!fruit.isCollected()) {
+            add(Kind.CACTUS, null, fruit.getFruitType(), fruit.isDangerous(), null);
+        }
+    }
+
+    private void addFruit(Fruit fruit) {
+        if (!fruit.isCollected()) {
+            add(Kind.FRUIT, null, fruit.getFruitType(), false, null);
+        }
+    }
+
+    @Override
+    public void visit(Block block) {
+        add(Kind.BLOCK, null, block.getBlockType(), false, null);
+    }
+
+    @Override
+    public void visit(IceBlock block) {
+        add(Kind.ICE, null, null, false, block.getState());
+    }
+
+    @Override
+    public void visit(Campfire block) {
+        add(Kind.CAMPFIRE, null, null, block.isLit(), null);
+    }
+
+    @Override
+    public void visit(HotTile block) {
+        add(Kind.HOT_TILE, null, null, false, null);
+    }
+}
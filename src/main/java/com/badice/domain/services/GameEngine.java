@@ -4,16 +4,31 @@ import com.badice.domain.config.LevelConfig.EntityConfig;
 import com.badice.domain.config.LevelConfig.PhaseConfig;
 import com.badice.domain.entities.*;
 import com.badice.domain.interfaces.MovementPattern;
+import com.badice.domain.models.FrameSnapshot;
 import com.badice.domain.models.GameSaveData;
+import com.badice.domain.models.Replay;
 import com.badice.domain.states.GameState;
 import com.badice.domain.states.MenuState;
+import com.badice.domain.states.PlayingState;
 import com.badice.domain.factories.EntityFactory;
 import com.badice.domain.states.GameOverState;
 import com.badice.domain.states.LevelCompleteState;
 import com.badice.domain.enums.GameMode;
 import com.badice.domain.interfaces.BotStrategy;
+import com.badice.domain.interfaces.GameEngineMXBean;
+import com.badice.domain.jfr.TickEvent;
 import com.badice.domain.services.strategies.HungryStrategy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Motor principal del juego que orquesta todos los servicios y la lógica del
@@ -26,12 +41,25 @@ public class GameEngine {
     private final IceManager iceManager;
     private final ScoreService scoreService;
     private final GameStateManager stateManager;
-    private final LevelLoader levelLoader;
+    private final LevelCache levels;
+    private final NavigationService navigation;
+    private final GameClock clock;
+    private final FrameCapture frameCapture = new FrameCapture();
+    private final TickProfiler profiler = new TickProfiler();
+    private final GameEngineMonitor monitor = new GameEngineMonitor(this);
+
+    // Azar de la sesión: cada nivel saca de aquí su semilla, así se puede
+    // repetir tanto la partida entera como un solo nivel
+    private long seed;
+    private SplittableRandom levelSeeds;
+    private long levelSeed;
+    private GameRandom random;
+    private ReplayRecorder recorder;
+    private boolean quiet; // sin mensajes de consola
 
     // Estado del juego
     private GameMap currentMap;
-    private long gameStartTime;
-    private long pausedTime;
+    private long gameStartTime; // Hora del reloj de juego al empezar el nivel
     private boolean isPaused;
     private int currentLevelNumber;
     private com.badice.domain.config.LevelConfig currentLevelConfig;
@@ -48,17 +76,33 @@ public class GameEngine {
     // Control de tiempo
     private static final long LEVEL_TIME_LIMIT = 3 * 60 * 1000; // 3 minutos en milisegundos
 
-    // Contador de ticks para actualizaciones no críticas
-    private int tickCounter = 0;
-
     public GameEngine() {
+        this(new LevelCache());
+    }
+
+    /**
+     * Crea un motor que lee los niveles de una caché, que puede compartirse
+     * con otros motores (ver {@link SessionHost}).
+     */
+    public GameEngine(LevelCache levels) {
+        this(levels, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Crea un motor cuyo azar sale de {@code seed}: con la misma semilla y las
+     * mismas entradas, la partida se repite tick a tick.
+     */
+    public GameEngine(LevelCache levels, long seed) {
         // Inicializar servicios
         this.collisionDetector = new CollisionDetector();
         this.movementService = new MovementService(collisionDetector);
         this.iceManager = new IceManager();
         this.scoreService = new ScoreService();
         this.stateManager = new GameStateManager(this);
-        this.levelLoader = new LevelLoader();
+        this.levels = levels;
+        this.navigation = new NavigationService();
+        this.clock = new GameClock();
+        setSeed(seed);
 
         // Inicializar estado
         this.isPaused = false;
@@ -67,22 +111,152 @@ public class GameEngine {
         this.totalPhases = 1;
         this.currentMode = GameMode.ONE_PLAYER;
 
-        // Comenzar en el estado de menú
+        // Comenzar en el estado de menú, sin anunciarlo: quien crea el motor
+        // aún no ha podido silenciarlo
+        this.quiet = true;
         stateManager.changeState(new MenuState());
+        this.quiet = false;
+    }
+
+    /**
+     * Silencia los mensajes de consola del motor y de sus estados. Las
+     * partidas sin ventana que corren en paralelo lo usan para no competir
+     * por {@code System.out}.
+     */
+    public void setQuiet(boolean quiet) {
+        this.quiet = quiet;
+        collisionDetector.setQuiet(quiet);
+    }
+
+    public boolean isQuiet() {
+        return quiet;
+    }
+
+    /**
+     * Escribe un mensaje de la partida en consola, salvo que el motor esté
+     * silenciado (ver {@link #setQuiet}).
+     */
+    public void announce(String message) {
+        if (!quiet) {
+            System.out.println(message);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reinicia el generador de la sesión con otra semilla. Para repetir una
+     * partida debe llamarse antes de empezarla.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.levelSeeds = new SplittableRandom(seed);
+        this.random = new GameRandom(seed);
+        if (currentMap != null) {
+            currentMap.setRandom(random);
+        }
+    }
+
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Semilla del generador del nivel actual, derivada de la de la sesión.
+     */
+    public long getLevelSeed() {
+        return levelSeed;
+    }
+
+    /**
+     * Graba a partir de ahora una repetición de cada nivel que se cargue, o
+     * deja de grabar con null.
+     */
+    public void setReplayRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Repetición del intento de nivel en curso hasta el tick actual, o null si
+     * no se está grabando.
+     */
+    public Replay getReplay() {
+        return recorder != null ? recorder.snapshot(clock.getTicks()) : null;
+    }
+
+    private void record(Replay.Action action, Direction direction, int playerIndex) {
+        if (recorder != null) {
+            recorder.record(clock.getTicks(), action, direction, playerIndex);
+        }
     }
 
     /**
      * Bucle principal de actualización del juego.
      */
     public void update() {
+        // Evento de JFR: apagado, solo cuesta la comprobación final
+        TickEvent event = new TickEvent();
+        event.begin();
+        long tickStart = System.nanoTime();
+
         // Actualizar el estado actual
         stateManager.update();
 
         // Verificar tiempo límite
         if (getElapsedTime() >= LEVEL_TIME_LIMIT) {
-            System.out.println("¡TIEMPO AGOTADO! Game Over.");
+            announce("¡TIEMPO AGOTADO! Game Over.");
             changeState(new GameOverState());
         }
+
+        // Fotograma clave de la repetición, con el tick ya terminado
+        if (recorder != null && recorder.wantsKeyframe(clock.getTicks())
+                && stateManager.isInState(PlayingState.class)) {
+            recorder.addKeyframe(clock.getTicks(), captureKeyframe());
+        }
+
+        monitor.onTick(tickStart, System.nanoTime());
+
+        if (event.shouldCommit()) {
+            event.tick = clock.getTicks();
+            event.state = stateManager.getCurrentStateName();
+            event.entities = currentMap != null ? currentMap.entities().size() : 0;
+            event.awakeEntities = currentMap != null ? currentMap.getAwakeCount() : 0;
+            event.commit();
+        }
+    }
+
+    /**
+     * Avanza hasta {@code ticks} ticks seguidos, sin esperar entre ellos, para
+     * simular sin ventana más rápido que el tiempo real. Se detiene antes si la
+     * partida deja de estar en juego (nivel completado, game over, pausa). No
+     * debe llamarse con un {@link GameLoop} en marcha.
+     *
+     * @return número de ticks ejecutados
+     */
+    public int step(int ticks) {
+        int executed = 0;
+        while (executed < ticks && stateManager.isInState(PlayingState.class)) {
+            update();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Arranca el motor: publica sus métricas por JMX (ver
+     * {@link GameEngineMXBean}). Debe emparejarse con {@link #shutdown()}.
+     */
+    public void start() {
+        monitor.register();
+    }
+
+    /**
+     * Apaga el motor: retira sus métricas de JMX.
+     */
+    public void shutdown() {
+        monitor.unregister();
     }
 
     /**
@@ -93,11 +267,17 @@ public class GameEngine {
             return;
         }
 
-        tickCounter++;
-        boolean shouldMoveEnemies = tickCounter % 3 == 0; // Mover enemigos cada 3 ticks (aprox 300ms)
+        // Perfilado por fases: con el perfilador desactivado no se mide nada
+        boolean profile = profiler.isEnabled();
+        long tickStart = profile ? System.nanoTime() : 0;
+        long mark = tickStart;
+
+        clock.advance();
+        navigation.beginTick(currentMap);
+        boolean shouldMoveEnemies = clock.getTicks() % 3 == 0; // Mover enemigos cada 3 ticks (aprox 300ms)
 
         // Actualizar enemigos y su movimiento
-        for (Enemy enemy : currentMap.getEnemies()) {
+        for (Enemy enemy : currentMap.enemies()) {
             if (!enemy.isActive())
                 continue;
 
@@ -105,14 +285,19 @@ public class GameEngine {
             if (shouldMoveEnemies) {
                 MovementPattern pattern = enemy.getMovementPattern();
                 if (pattern != null) {
+                    pattern.setNavigation(navigation);
                     Direction nextDirection = pattern.calculateNextDirection(enemy, currentMap);
+                    boolean special = enemy instanceof NarvalEnemy || enemy instanceof SquidEnemy;
+                    if (profile && special) {
+                        mark = profiler.lap(TickProfiler.Phase.ENEMY_PATTERNS, mark);
+                    }
 
                     // NUEVO: Lógica especial para el Narval (NarvalEnemy)
                     if (enemy instanceof NarvalEnemy) {
                         NarvalEnemy narval = (NarvalEnemy) enemy;
 
                         // Verificar alineación con jugadores
-                        for (Player player : currentMap.getPlayers()) {
+                        for (Player player : currentMap.players()) {
                             if (player.isActive() && narval.isAlignedWithPlayer(player)) {
                                 narval.startCharge();
                                 break;
@@ -158,23 +343,32 @@ public class GameEngine {
                         // Enemigos normales
                         movementService.moveEntity(enemy, nextDirection, currentMap);
                     }
+                    if (profile && special) {
+                        mark = profiler.lap(TickProfiler.Phase.ENEMY_SPECIAL, mark);
+                    }
                 }
             }
 
             // Verificar colisión directa con jugadores
-            for (Player player : currentMap.getPlayers()) {
+            for (Player player : currentMap.players()) {
                 if (player.isActive() && enemy.getPosition().equals(player.getPosition())) {
                     handlePlayerDeath(player);
                 }
             }
         }
 
+        if (profile) {
+            mark = profiler.lap(TickProfiler.Phase.ENEMY_PATTERNS, mark);
+        }
+
         // Actualizar IA para jugadores máquina
         updateAI();
+        if (profile) {
+            mark = profiler.lap(TickProfiler.Phase.AI, mark);
+        }
 
         // Detectar colisiones de los jugadores
-        List<Player> players = currentMap.getPlayers();
-        for (Player player : players) {
+        for (Player player : currentMap.players()) {
             if (player != null && player.isActive()) {
                 // Usar el método centralizado que maneja frutas, enemigos Y FOGATAS
                 boolean playerDied = collisionDetector.handlePlayerCollisions(player, currentMap, scoreService);
@@ -185,6 +379,9 @@ public class GameEngine {
                 }
             }
         }
+        if (profile) {
+            mark = profiler.lap(TickProfiler.Phase.COLLISIONS, mark);
+        }
 
         // Verificar transición de fase
         if (currentPhase < totalPhases && scoreService.areAllFruitsCollected())
@@ -192,12 +389,19 @@ public class GameEngine {
         {
             spawnNextPhase();
         } else if (checkVictoryCondition()) {
-             System.out.println("¡NIVEL COMPLETADO!");
+             announce("¡NIVEL COMPLETADO!");
              changeState(new LevelCompleteState());
         }
+        if (profile) {
+            mark = profiler.lap(TickProfiler.Phase.PHASE_CHECKS, mark);
+        }
 
         // Actualizar todas las entidades
         currentMap.updateAllEntities();
+        if (profile) {
+            profiler.lap(TickProfiler.Phase.ENTITY_UPDATE, mark);
+            profiler.endTick(tickStart);
+        }
     }
 
     private void handlePlayerDeath(Player player) {
@@ -213,7 +417,7 @@ public class GameEngine {
 
         // Si todos los jugadores están muertos, game over
         boolean allDead = true;
-        for (Player p : currentMap.getPlayers()) {
+        for (Player p : currentMap.players()) {
             if (p.isActive()) {
                 allDead = false;
                 break;
@@ -231,15 +435,17 @@ public class GameEngine {
      * Mueve al jugador en una dirección.
      */
     public boolean movePlayer(Direction direction, int playerIndex) {
-        if (currentMap == null)
-            return false;
+        record(Replay.Action.MOVE, direction, playerIndex);
+        return applyMove(direction, playerIndex);
+    }
 
-        List<Player> players = currentMap.getPlayers();
-        if (playerIndex < 0 || playerIndex >= players.size())
+    // Movimiento sin grabar: los bots lo recalculan al reproducir
+    private boolean applyMove(Direction direction, int playerIndex) {
+        if (currentMap == null)
             return false;
 
-        Player player = players.get(playerIndex);
-        if (!player.isActive())
+        Player player = currentMap.getPlayer(playerIndex);
+        if (player == null || !player.isActive())
             return false;
 
         // IMPORTANTE: Actualizar dirección SIEMPRE, incluso si el movimiento falla
@@ -253,15 +459,12 @@ public class GameEngine {
      * El jugador crea un bloque de hielo.
      */
     public boolean playerCreateIce(Direction direction, int playerIndex) {
+        record(Replay.Action.CREATE_ICE, direction, playerIndex);
         if (currentMap == null)
             return false;
 
-        List<Player> players = currentMap.getPlayers();
-        if (playerIndex < 0 || playerIndex >= players.size())
-            return false;
-
-        Player player = players.get(playerIndex);
-        if (!player.isActive())
+        Player player = currentMap.getPlayer(playerIndex);
+        if (player == null || !player.isActive())
             return false;
 
         Position playerPos = player.getPosition();
@@ -273,15 +476,12 @@ public class GameEngine {
      * El jugador destruye un bloque de hielo.
      */
     public boolean playerDestroyIce(Direction direction, int playerIndex) {
+        record(Replay.Action.DESTROY_ICE, direction, playerIndex);
         if (currentMap == null)
             return false;
 
-        List<Player> players = currentMap.getPlayers();
-        if (playerIndex < 0 || playerIndex >= players.size())
-            return false;
-
-        Player player = players.get(playerIndex);
-        if (!player.isActive())
+        Player player = currentMap.getPlayer(playerIndex);
+        if (player == null || !player.isActive())
             return false;
 
         Position playerPos = player.getPosition();
@@ -294,16 +494,30 @@ public class GameEngine {
      * Crea un nivel cargando la configuración desde archivo.
      */
     private void createLevel(int levelNumber) {
+        createLevel(levelNumber, levelSeeds.nextLong());
+    }
+
+    private void createLevel(int levelNumber, long levelSeed) {
+        if (recorder != null) {
+            recorder.stop();
+        }
+        clock.reset(); // Reiniciar el reloj para asegurar que enemigos se muevan correctamente
+        this.levelSeed = levelSeed;
+        this.random = new GameRandom(levelSeed);
         try {
-            this.currentLevelConfig = levelLoader.loadLevel(levelNumber);
+            this.currentLevelConfig = levels.getLevel(levelNumber);
         } catch (com.badice.domain.exceptions.LevelLoadException e) {
             System.err.println("Error cargando nivel " + levelNumber + ": " + e.getMessage());
             e.printStackTrace();
             currentMap = EntityFactory.createDefaultMap();
+            currentMap.setClock(clock);
+            currentMap.setRandom(random);
             return;
         }
 
         currentMap = EntityFactory.createDefaultMap();
+        currentMap.setClock(clock);
+        currentMap.setRandom(random);
 
         // Crear jugadores según el modo
         if (currentMode == GameMode.ONE_PLAYER) {
@@ -317,15 +531,8 @@ public class GameEngine {
             currentMap.addPlayer(p2);
         }
 
-        // Crear paredes del borde
-        for (int x = 0; x < 15; x++) {
-            currentMap.addEntity(EntityFactory.createWall(x, 0));
-            currentMap.addEntity(EntityFactory.createWall(x, 10));
-        }
-        for (int y = 1; y < 10; y++) {
-            currentMap.addEntity(EntityFactory.createWall(0, y));
-            currentMap.addEntity(EntityFactory.createWall(14, y));
-        }
+        // Crear paredes del borde (terreno estático, no entidades)
+        currentMap.setTerrain(EntityFactory.createBorderTerrain(currentMap.getWidth(), currentMap.getHeight()));
 
         // Configurar fases
         this.totalPhases = currentLevelConfig.getTotalPhases();
@@ -350,6 +557,99 @@ public class GameEngine {
 
         scoreService.setCurrentLevel(levelNumber);
         resetGameTimer();
+
+        if (recorder != null) {
+            recorder.begin(levelSeed, levelNumber, currentMode, scoreService.getCurrentScore(),
+                    scoreService.getFruitsCollected());
+        }
+    }
+
+    /**
+     * Carga el nivel de una repetición tal como empezó al grabarla. Después
+     * solo hay que entrar en juego y aplicar sus entradas (ver
+     * {@link ReplayPlayer}).
+     */
+    void startReplayLevel(Replay replay) {
+        this.currentMode = replay.getMode();
+        this.currentLevelNumber = replay.getLevel();
+        scoreService.resetCurrentScore();
+        scoreService.addScore(replay.getStartScore());
+        scoreService.setFruitsCollected(replay.getStartFruits());
+        createLevel(replay.getLevel(), replay.getSeed());
+    }
+
+    /**
+     * Estado del motor en el tick actual para un fotograma clave de
+     * repetición: reloj, generador, tiempo y fases del nivel, puntuación
+     * ({@link ScoreService}) y el {@link GameMap} serializado, comprimido.
+     */
+    byte[] captureKeyframe() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeLong(clock.getTicks());
+            out.writeLong(random.getState());
+            out.writeLong(gameStartTime);
+            out.writeInt(currentPhase);
+            out.writeInt(totalPhases);
+            out.writeInt(scoreService.getCurrentScore());
+            out.writeInt(scoreService.getFruitsCollected());
+            out.writeInt(scoreService.getTotalFruits());
+            out.writeObject(currentMap);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo capturar el fotograma clave", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Vuelve al estado de un fotograma clave de {@link #captureKeyframe()}
+     * tomado en este mismo nivel. La partida debe estar ya en juego.
+     *
+     * @throws IllegalArgumentException si los datos no son un fotograma clave
+     */
+    void restoreKeyframe(byte[] keyframe) {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(keyframe)))) {
+            long ticks = in.readLong();
+            long randomState = in.readLong();
+            long startTime = in.readLong();
+            int phase = in.readInt();
+            int phases = in.readInt();
+            int score = in.readInt();
+            int fruitsCollected = in.readInt();
+            int totalFruits = in.readInt();
+            GameMap map = (GameMap) in.readObject();
+
+            clock.reset();
+            clock.advance(ticks);
+            random.setState(randomState);
+            this.gameStartTime = startTime;
+            this.isPaused = false;
+            this.currentPhase = phase;
+            this.totalPhases = phases;
+            scoreService.resetCurrentScore();
+            scoreService.addScore(score);
+            scoreService.setCurrentLevel(currentLevelNumber);
+            scoreService.setTotalFruits(totalFruits);
+            scoreService.setFruitsCollected(fruitsCollected);
+
+            this.currentMap = map;
+            currentMap.setClock(clock);
+            currentMap.setRandom(random);
+            relinkPatterns();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new IllegalArgumentException("Fotograma clave no válido", e);
+        }
+    }
+
+    // Los patrones no guardan el generador: tras cargar un mapa se lo vuelve a dar
+    private void relinkPatterns() {
+        for (Enemy enemy : currentMap.getEnemies()) {
+            MovementPattern pattern = enemy.getMovementPattern();
+            if (pattern != null) {
+                pattern.setMap(currentMap);
+            }
+        }
     }
 
     private void setupPhase(PhaseConfig phase) {
@@ -430,7 +730,7 @@ public class GameEngine {
             scoreService.nextPhase(fruitsAdded);
             
         } else {
-             System.out.println("Warning: Fase " + currentPhase + " solicitada pero no existe configuración.");
+             announce("Warning: Fase " + currentPhase + " solicitada pero no existe configuración.");
         }
     }
 
@@ -445,14 +745,13 @@ public class GameEngine {
      * Obtiene los niveles disponibles desde el cargador.
      */
     public java.util.List<Integer> getAvailableLevels() {
-        return levelLoader.getAvailableLevels();
+        return levels.getAvailableLevels();
     }
 
     /**
      * Carga el nivel actual por número.
      */
     public void loadCurrentLevel() {
-        tickCounter = 0; // Reset tick counter para asegurar que enemigos se muevan correctamente
         createLevel(currentLevelNumber);
     }
 
@@ -546,26 +845,19 @@ public class GameEngine {
         stateManager.changeState(newState);
     }
 
-    // Control de tiempo
+    // Control de tiempo (el reloj de juego no avanza mientras está en pausa)
     public void resetGameTimer() {
-        this.gameStartTime = System.currentTimeMillis();
-        this.pausedTime = 0;
+        record(Replay.Action.RESET_TIMER, null, 0);
+        this.gameStartTime = clock.currentTimeMillis();
         this.isPaused = false;
     }
 
     public void pauseGameTimer() {
-        if (!isPaused) {
-            this.pausedTime = System.currentTimeMillis();
-            this.isPaused = true;
-        }
+        this.isPaused = true;
     }
 
     public void resumeGameTimer() {
-        if (isPaused) {
-            long pauseDuration = System.currentTimeMillis() - pausedTime;
-            this.gameStartTime += pauseDuration;
-            this.isPaused = false;
-        }
+        this.isPaused = false;
     }
 
     /**
@@ -589,7 +881,15 @@ public class GameEngine {
      * Restaura el estado del juego desde un objeto guardado.
      */
     public void restoreGameState(GameSaveData state) {
+        if (recorder != null) {
+            recorder.stop(); // Empieza a medio nivel: no se puede repetir
+        }
         this.currentMap = state.getGameMap();
+        if (currentMap != null) {
+            currentMap.setClock(clock);
+            currentMap.setRandom(random);
+            relinkPatterns();
+        }
         this.currentLevelNumber = state.getCurrentLevel();
 
         // Restaurar puntuación
@@ -618,7 +918,7 @@ public class GameEngine {
 
         // Restaurar tiempo
         // Ajustamos el tiempo de inicio para que coincida con el tiempo guardado
-        this.gameStartTime = System.currentTimeMillis() - state.getTimeRemaining();
+        this.gameStartTime = clock.currentTimeMillis() - state.getTimeRemaining();
 
         // Asegurar que el mapa tenga las referencias correctas si es necesario
         if (currentMap != null) {
@@ -632,10 +932,33 @@ public class GameEngine {
     }
 
     public long getElapsedTime() {
-        if (isPaused) {
-            return pausedTime - gameStartTime;
-        }
-        return System.currentTimeMillis() - gameStartTime;
+        return clock.currentTimeMillis() - gameStartTime;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Perfilador por fases de {@link #updateEntities()}.
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Métricas del motor publicadas por JMX.
+     */
+    public GameEngineMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Fotografía inmutable del estado actual para la vista. Debe llamarse desde
+     * el hilo que ejecuta la simulación (ver {@link GameLoop}).
+     */
+    public FrameSnapshot captureFrame() {
+        return frameCapture.capture(this, clock.getTicks());
     }
 
     public long getTimeRemaining() {
@@ -688,18 +1011,19 @@ public class GameEngine {
         if (currentMap == null)
             return;
 
-        List<Player> players = currentMap.getPlayers();
-
         // Determinar qué jugadores son máquinas
         boolean p1IsMachine = (currentMode == GameMode.MVM);
         boolean p2IsMachine = (currentMode == GameMode.PVM || currentMode == GameMode.MVM);
 
-        if (p1IsMachine && players.size() > 0) {
-            moveMachinePlayer(players.get(0), 0);
+        // Por índice, sin copiar la lista de jugadores en cada tick
+        Player p1 = currentMap.getPlayer(0);
+        if (p1IsMachine && p1 != null) {
+            moveMachinePlayer(p1, 0);
         }
 
-        if (p2IsMachine && players.size() > 1) {
-            moveMachinePlayer(players.get(1), 1);
+        Player p2 = currentMap.getPlayer(1);
+        if (p2IsMachine && p2 != null) {
+            moveMachinePlayer(p2, 1);
         }
     }
 
@@ -724,9 +1048,10 @@ public class GameEngine {
         }
         
         // Ejecutar movimiento cada 3 ticks (aprox 300ms, más rápido que antes)
-        if (tickCounter % 3 == 0) {
+        if (clock.getTicks() % 3 == 0) {
+            strategy.setNavigation(navigation);
             Direction nextDir = strategy.calculateNextMove(player, currentMap);
-            movePlayer(nextDir, playerIndex);
+            applyMove(nextDir, playerIndex);
         }
     }
 
@@ -0,0 +1,340 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.GameMap;
+import com.badice.domain.interfaces.GameEngineMXBean;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementación de {@link GameEngineMXBean} para un motor.
+ * <p>
+ * El hilo de simulación toma una muestra al final de cada tick
+ * ({@link #onTick}) y la deja en campos volátiles, de modo que las lecturas
+ * por JMX nunca tocan el mapa vivo. La vista cuenta sus fotogramas con
+ * {@link #onFrameRendered()}, desde cualquier hilo.
+ */
+public class GameEngineMonitor implements GameEngineMXBean {
+    public static final String DOMAIN = "com.badice";
+
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private final GameEngine engine;
+    private final int id = NEXT_ID.incrementAndGet();
+    private ObjectName name;
+
+    // Contadores (solo los escribe el hilo de simulación, salvo los fotogramas)
+    private volatile long ticks;
+    private volatile long lastTickNanos;
+    private volatile long simulationThreadId = -1;
+    private volatile long iceCreated;
+    private volatile long iceDestroyed;
+    private final AtomicLong framesRendered = new AtomicLong();
+
+    // Última muestra del mapa y de la partida
+    private volatile int entityCount;
+    private volatile int playerCount;
+    private volatile int enemyCount;
+    private volatile int fruitCount;
+    private volatile int iceBlockCount;
+    private volatile int blockCount;
+    private volatile int awakeCount;
+    private volatile int scheduledCount;
+    private volatile String state = "";
+    private volatile int level;
+    private volatile int score;
+    private volatile int fruitsCollected;
+    private volatile int totalFruits;
+
+    // Mapa muestreado y sus contadores de hielo en la muestra anterior
+    private GameMap sampledMap;
+    private long mapIceCreated;
+    private long mapIceDestroyed;
+
+    // Ventana de las tasas por segundo
+    private long windowStart = -1;
+    private long windowTicks;
+    private long windowIceCreated;
+    private long windowIceDestroyed;
+    private long windowFrames;
+    private volatile double tickRate;
+    private volatile double iceCreatedRate;
+    private volatile double iceDestroyedRate;
+    private volatile double renderFps;
+
+    GameEngineMonitor(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Registra el MBean en el servidor de la plataforma, con un nombre propio
+     * por motor. No hace nada si ya estaba registrado.
+     */
+    public synchronized void register() {
+        if (name != null) {
+            return;
+        }
+        try {
+            ObjectName candidate = new ObjectName(DOMAIN + ":type=GameEngine,id=" + id);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            name = candidate;
+        } catch (JMException e) {
+            System.err.println("No se pudo registrar el MBean del motor: " + e.getMessage());
+        }
+    }
+
+    public synchronized void unregister() {
+        if (name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            System.err.println("No se pudo retirar el MBean del motor: " + e.getMessage());
+        }
+        name = null;
+    }
+
+    /**
+     * Nombre con el que está registrado, o null.
+     */
+    public synchronized ObjectName getObjectName() {
+        return name;
+    }
+
+    /**
+     * Cuenta un fotograma pintado por la vista.
+     */
+    public void onFrameRendered() {
+        framesRendered.incrementAndGet();
+    }
+
+    /**
+     * Duración del último tick completo, en nanosegundos.
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Id del hilo que ejecutó el último tick, o -1 si aún no hubo ninguno.
+     */
+    public long getSimulationThreadId() {
+        return simulationThreadId;
+    }
+
+    /**
+     * Toma la muestra del tick que empezó en {@code startNanos} y acaba de
+     * terminar en {@code nowNanos}. Solo desde el hilo de simulación.
+     */
+    void onTick(long startNanos, long nowNanos) {
+        ticks++;
+        lastTickNanos = nowNanos - startNanos;
+        long threadId = Thread.currentThread().getId();
+        if (simulationThreadId != threadId) {
+            simulationThreadId = threadId;
+        }
+        sampleMap(engine.getCurrentMap());
+
+        ScoreService scoreService = engine.getScoreService();
+        state = engine.getStateManager().getCurrentStateName();
+        level = scoreService.getCurrentLevel();
+        score = scoreService.getCurrentScore();
+        fruitsCollected = scoreService.getFruitsCollected();
+        totalFruits = scoreService.getTotalFruits();
+
+        if (windowStart < 0) {
+            startWindow(nowNanos);
+        } else if (nowNanos - windowStart >= RATE_WINDOW_NANOS) {
+            double seconds = (nowNanos - windowStart) / 1e9;
+            long frames = framesRendered.get();
+            tickRate = (ticks - windowTicks) / seconds;
+            iceCreatedRate = (iceCreated - windowIceCreated) / seconds;
+            iceDestroyedRate = (iceDestroyed - windowIceDestroyed) / seconds;
+            renderFps = (frames - windowFrames) / seconds;
+            startWindow(nowNanos);
+        }
+    }
+
+    private void sampleMap(GameMap map) {
+        if (map != sampledMap) {
+            // Mapa nuevo: el hielo del nivel no cuenta como creado en partida
+            sampledMap = map;
+            mapIceCreated = map != null ? map.getIceBlocksCreated() : 0;
+            mapIceDestroyed = map != null ? map.getIceBlocksDestroyed() : 0;
+        }
+        if (map == null) {
+            entityCount = playerCount = enemyCount = fruitCount = 0;
+            iceBlockCount = blockCount = awakeCount = scheduledCount = 0;
+            return;
+        }
+        long created = map.getIceBlocksCreated();
+        long destroyed = map.getIceBlocksDestroyed();
+        iceCreated += created - mapIceCreated;
+        iceDestroyed += destroyed - mapIceDestroyed;
+        mapIceCreated = created;
+        mapIceDestroyed = destroyed;
+
+        entityCount = map.entities().size();
+        playerCount = map.players().size();
+        enemyCount = map.enemies().size();
+        fruitCount = map.fruits().size();
+        iceBlockCount = map.iceBlocks().size();
+        blockCount = map.blocks().size();
+        awakeCount = map.getAwakeCount();
+        scheduledCount = map.getScheduledCount();
+    }
+
+    private void startWindow(long nowNanos) {
+        windowStart = nowNanos;
+        windowTicks = ticks;
+        windowIceCreated = iceCreated;
+        windowIceDestroyed = iceDestroyed;
+        windowFrames = framesRendered.get();
+    }
+
+    @Override
+    public double getTickRate() {
+        return tickRate;
+    }
+
+    @Override
+    public long getTickCount() {
+        return ticks;
+    }
+
+    @Override
+    public double getTickDurationP50Millis() {
+        return totalStats().getP50() / 1e6;
+    }
+
+    @Override
+    public double getTickDurationP99Millis() {
+        return totalStats().getP99() / 1e6;
+    }
+
+    @Override
+    public double getTickDurationMaxMillis() {
+        return totalStats().getMax() / 1e6;
+    }
+
+    private TickProfiler.PhaseStats totalStats() {
+        return engine.getProfiler().getStats(TickProfiler.Phase.TOTAL);
+    }
+
+    @Override
+    public boolean isProfilingEnabled() {
+        return engine.getProfiler().isEnabled();
+    }
+
+    @Override
+    public void setProfilingEnabled(boolean enabled) {
+        engine.getProfiler().setEnabled(enabled);
+    }
+
+    @Override
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    @Override
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    @Override
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    @Override
+    public int getFruitCount() {
+        return fruitCount;
+    }
+
+    @Override
+    public int getIceBlockCount() {
+        return iceBlockCount;
+    }
+
+    @Override
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    @Override
+    public int getAwakeEntityCount() {
+        return awakeCount;
+    }
+
+    @Override
+    public int getScheduledTimerCount() {
+        return scheduledCount;
+    }
+
+    @Override
+    public long getIceBlocksCreated() {
+        return iceCreated;
+    }
+
+    @Override
+    public long getIceBlocksDestroyed() {
+        return iceDestroyed;
+    }
+
+    @Override
+    public double getIceBlocksCreatedPerSecond() {
+        return iceCreatedRate;
+    }
+
+    @Override
+    public double getIceBlocksDestroyedPerSecond() {
+        return iceDestroyedRate;
+    }
+
+    @Override
+    public long getPathfindingCalls() {
+        return PathFinder.getSearchCount();
+    }
+
+    @Override
+    public double getAverageExpandedNodes() {
+        long calls = PathFinder.getSearchCount();
+        return calls > 0 ? (double) PathFinder.getExpandedNodeCount() / calls : 0;
+    }
+
+    @Override
+    public double getRenderFps() {
+        return renderFps;
+    }
+
+    @Override
+    public String getState() {
+        return state;
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public int getFruitsCollected() {
+        return fruitsCollected;
+    }
+
+    @Override
+    public int getTotalFruits() {
+        return totalFruits;
+    }
+}
@@ -0,0 +1,147 @@
+package com.badice.domain.services;
+
+import com.badice.domain.config.GameConfig;
+import com.badice.domain.models.FrameSnapshot;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hilo de simulación: ejecuta el motor a ritmo fijo, fuera del hilo de Swing.
+ * <p>
+ * Es el único hilo que toca el motor mientras está en marcha. La entrada llega
+ * como comandos encolados con {@link #submit(Runnable)}, que se aplican al
+ * principio de cada tick, y cada tick publica un {@link FrameSnapshot}
+ * inmutable que la vista lee con {@link #getLatestFrame()}. Así el coste de
+ * pintar no retrasa los ticks y la vista nunca ve un estado a medio
+ * actualizar.
+ */
+public class GameLoop {
+    // Con más retraso que esto se descartan ticks en lugar de encadenarlos
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final GameEngine engine;
+    private final long tickNanos;
+    private final Runnable step;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<FrameSnapshot> latestFrame = new AtomicReference<>();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public GameLoop(GameEngine engine) {
+        this(engine, GameConfig.GAME_TICK_RATE);
+    }
+
+    public GameLoop(GameEngine engine, long tickMillis) {
+        this(engine, tickMillis, engine::update);
+    }
+
+    /**
+     * @param step lo que se ejecuta en cada tick en lugar de
+     *             {@link GameEngine#update()}, p. ej.
+     *             {@link ReplayPlayer#tick()} para ver una repetición
+     */
+    public GameLoop(GameEngine engine, long tickMillis, Runnable step) {
+        this.engine = engine;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.step = step;
+    }
+
+    /**
+     * Arranca el hilo. Publica antes una primera fotografía para que la vista
+     * tenga algo que dibujar desde el principio.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        latestFrame.set(engine.captureFrame());
+        running = true;
+        thread = new Thread(this::run, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Detiene el hilo y espera a que termine el tick en curso; después el
+     * motor vuelve a poder usarse desde el hilo que llama. Los comandos
+     * pendientes se descartan.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        if (Thread.currentThread() != thread) {
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+        commands.clear();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Encola un comando para ejecutarlo en el hilo de simulación al comienzo
+     * del siguiente tick.
+     */
+    public void submit(Runnable command) {
+        commands.add(command);
+    }
+
+    /**
+     * Última fotografía publicada, o null si el bucle nunca ha arrancado.
+     */
+    public FrameSnapshot getLatestFrame() {
+        return latestFrame.get();
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        while (running) {
+            tick();
+
+            nextTick += tickNanos;
+            long now = System.nanoTime();
+            if (now - nextTick > MAX_CATCH_UP_TICKS * tickNanos) {
+                nextTick = now; // Demasiado retraso: no intentar recuperarlo
+            }
+            long wait;
+            while (running && (wait = nextTick - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    private void tick() {
+        try {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+            step.run();
+        } catch (RuntimeException e) {
+            // Un fallo en un tick no debe matar el hilo de simulación
+            System.err.println("Error en el tick de simulación: " + e.getMessage());
+            e.printStackTrace();
+        }
+        latestFrame.set(engine.captureFrame());
+    }
+}
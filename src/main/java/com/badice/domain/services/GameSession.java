@@ -0,0 +1,116 @@
+package com.badice.domain.services;
+
+import com.badice.domain.models.FrameSnapshot;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+
+/**
+ * Una partida alojada en un {@link SessionHost}: un motor propio, su cola de
+ * comandos y, si se pidió, la última fotografía publicada.
+ * <p>
+ * Como en {@link GameLoop}, el motor solo se toca desde el hilo que ejecuta
+ * sus ticks; desde fuera se le envían comandos con {@link #submit(Runnable)}.
+ * Dos ticks de la misma sesión nunca se solapan, aunque pueden ejecutarse en
+ * hilos distintos del planificador.
+ */
+public final class GameSession {
+    private final long id;
+    private final GameEngine engine;
+    private final boolean publishFrames;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    private volatile FrameSnapshot latestFrame;
+    private volatile long ticks;
+    private volatile boolean closed;
+    private volatile Future<?> schedule;
+
+    GameSession(long id, GameEngine engine, boolean publishFrames) {
+        this.id = id;
+        this.engine = engine;
+        this.publishFrames = publishFrames;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Encola un comando para el principio del siguiente tick de la sesión.
+     */
+    public void submit(Runnable command) {
+        commands.add(command);
+    }
+
+    /**
+     * Motor de la sesión. Fuera de un comando solo debe usarse con la sesión
+     * cerrada.
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Última fotografía publicada, o null si la sesión no publica fotografías.
+     */
+    public FrameSnapshot getLatestFrame() {
+        return latestFrame;
+    }
+
+    /**
+     * Ticks ejecutados por la sesión.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Publica la primera fotografía; debe llamarse antes de programar ticks.
+     */
+    void start() {
+        if (publishFrames) {
+            latestFrame = engine.captureFrame();
+        }
+    }
+
+    void setSchedule(Future<?> schedule) {
+        this.schedule = schedule;
+    }
+
+    /**
+     * Deja de programar ticks; si hay uno en curso, espera a que termine.
+     */
+    synchronized void stop() {
+        closed = true;
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
+        commands.clear();
+    }
+
+    synchronized void tick() {
+        if (closed) {
+            return;
+        }
+        try {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+            engine.update();
+        } catch (RuntimeException e) {
+            // Un fallo en una sesión no debe afectar a las demás
+            System.err.println("Error en el tick de la sesión " + id + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+        ticks++;
+        if (publishFrames) {
+            latestFrame = engine.captureFrame();
+        }
+    }
+}
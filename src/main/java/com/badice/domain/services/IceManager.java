@@ -20,33 +20,26 @@ public class IceManager {
      * @return El último bloque de hielo creado, o null si no se creó ninguno
      */
     public IceBlock createIceBlock(Position startPosition, Direction direction, GameMap map) {
-        Position currentPos = startPosition.move(direction);
+        // La fila se extiende hasta el primer obstáculo sólido (capa de sólidos)
+        int length = map.freeRunLength(startPosition, direction);
+        Position currentPos = startPosition;
         IceBlock lastCreated = null;
 
-        while (map.isValidPosition(currentPos)) {
-            // Si encontramos un obstáculo (algo sólido que no sea hielo inactivo),
-            // detenemos la creación
-            if (map.isPositionBlocked(currentPos)) {
-                break;
-            }
+        for (int i = 0; i < length; i++) {
+            currentPos = currentPos.move(direction);
 
-            // Verificar si hay una baldosa caliente en esta posición
-            // Si la hay, el hielo se derrite instantáneamente (no se crea)
-            if (hasHotTileAt(currentPos, map)) {
-                // No crear hielo, pero continuar la línea
-                currentPos = currentPos.move(direction);
+            // Si hay una baldosa caliente, el hielo se derrite instantáneamente
+            // (no se crea), pero la línea continúa
+            if (map.hasHotTileAt(currentPos)) {
                 continue;
             }
 
             // Crear el bloque de hielo (incluso sobre fogatas)
-            if (!hasIceBlockAt(currentPos, map)) {
+            if (!map.hasIceAt(currentPos)) {
                 IceBlock iceBlock = new IceBlock(currentPos);
                 map.addEntity(iceBlock); // Agregar directamente como entidad
                 lastCreated = iceBlock;
             }
-
-            // Avanzar a la siguiente posición
-            currentPos = currentPos.move(direction);
         }
 
         return lastCreated;
@@ -59,59 +52,48 @@ public class IceManager {
      * @return true si se agrietó al menos un bloque, false si no
      */
     public boolean destroyIceBlock(Position startPosition, Direction direction, GameMap map) {
-        Position currentPos = startPosition.move(direction);
-        boolean crackedAny = false;
+        // La fila termina en el primer espacio sin hielo (capa de hielo)
+        int length = map.iceRunLength(startPosition, direction);
+        Position currentPos = startPosition;
 
-        while (map.isValidPosition(currentPos)) {
-            IceBlock iceBlock = getIceBlockAt(currentPos, map);
+        for (int i = 0; i < length; i++) {
+            currentPos = currentPos.move(direction);
 
+            // Agrietar el bloque (inicia animación de ruptura)
+            IceBlock iceBlock = getIceBlockAt(currentPos, map);
             if (iceBlock != null) {
-                // Agrietar el bloque (inicia animación de ruptura)
                 iceBlock.crack();
-                crackedAny = true;
-
-                // Verificar si hay una fogata en esta posición y apagarla
-                Campfire campfire = getCampfireAt(currentPos, map);
-                if (campfire != null && campfire.isLit()) {
-                    campfire.extinguish();
-                }
-            } else {
-                // Si encontramos un espacio sin hielo, dejamos de destruir
-                break;
             }
 
-            // Avanzar a la siguiente posición
-            currentPos = currentPos.move(direction);
+            // Verificar si hay una fogata en esta posición y apagarla
+            Campfire campfire = getCampfireAt(currentPos, map);
+            if (campfire != null && campfire.isLit()) {
+                campfire.extinguish();
+            }
         }
 
-        return crackedAny;
+        return length > 0;
     }
 
     /**
      * Verifica si hay un bloque de hielo en una posición.
      */
     public boolean hasIceBlockAt(Position position, GameMap map) {
-        return map.getIceBlocks().stream()
-                .filter(IceBlock::isActive)
-                .anyMatch(iceBlock -> iceBlock.getPosition().equals(position));
+        return map.hasIceAt(position);
     }
 
     /**
      * Obtiene el bloque de hielo en una posición específica.
      */
     public IceBlock getIceBlockAt(Position position, GameMap map) {
-        return map.getIceBlocks().stream()
-                .filter(IceBlock::isActive)
-                .filter(iceBlock -> iceBlock.getPosition().equals(position))
-                .findFirst()
-                .orElse(null);
+        return map.hasIceAt(position) ? map.getEntityAt(position, IceBlock.class) : null;
     }
 
     /**
      * Destruye todos los bloques de hielo del mapa.
      */
     public void clearAllIceBlocks(GameMap map) {
-        for (IceBlock iceBlock : map.getIceBlocks()) {
+        for (IceBlock iceBlock : map.iceBlocks()) {
             iceBlock.destroy();
         }
         map.cleanupInactiveEntities();
@@ -121,22 +103,13 @@ public class IceManager {
      * Verifica si hay una baldosa caliente en una posición.
      */
     public boolean hasHotTileAt(Position position, GameMap map) {
-        return map.getEntities().stream()
-                .filter(GameEntity::isActive)
-                .filter(entity -> entity instanceof HotTile)
-                .anyMatch(entity -> entity.getPosition().equals(position));
+        return map.hasHotTileAt(position);
     }
 
     /**
      * Obtiene una fogata en una posición específica.
      */
     public Campfire getCampfireAt(Position position, GameMap map) {
-        return map.getEntities().stream()
-                .filter(GameEntity::isActive)
-                .filter(entity -> entity instanceof Campfire)
-                .map(entity -> (Campfire) entity)
-                .filter(campfire -> campfire.getPosition().equals(position))
-                .findFirst()
-                .orElse(null);
+        return map.hasCampfireAt(position) ? map.getEntityAt(position, Campfire.class) : null;
     }
 }
@@ -0,0 +1,66 @@
+package com.badice.domain.services;
+
+import com.badice.domain.config.LevelConfig;
+import com.badice.domain.exceptions.LevelLoadException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Niveles ya leídos, compartidos por todas las partidas que usan la caché.
+ * <p>
+ * Cada nivel se lee del disco una sola vez y se guarda congelado
+ * ({@link LevelConfig#freeze()}), de modo que muchos motores pueden usarlo a
+ * la vez desde hilos distintos. Es seguro para varios hilos; si dos piden el
+ * mismo nivel a la vez puede leerse dos veces, pero todos reciben la misma
+ * instancia. Los fallos de carga no se guardan.
+ */
+public class LevelCache {
+    private final LevelLoader loader;
+    private final Map<Integer, LevelConfig> levels = new ConcurrentHashMap<>();
+
+    public LevelCache() {
+        this(new LevelLoader());
+    }
+
+    public LevelCache(LevelLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Configuración (de solo lectura) de un nivel.
+     */
+    public LevelConfig getLevel(int levelNumber) throws LevelLoadException {
+        LevelConfig cached = levels.get(levelNumber);
+        if (cached != null) {
+            return cached;
+        }
+        LevelConfig loaded = loader.loadLevel(levelNumber);
+        loaded.freeze();
+        LevelConfig previous = levels.putIfAbsent(levelNumber, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * Números de nivel disponibles en disco. No se guarda: refleja los
+     * archivos actuales.
+     */
+    public List<Integer> getAvailableLevels() {
+        return loader.getAvailableLevels();
+    }
+
+    /**
+     * Número de niveles en la caché.
+     */
+    public int size() {
+        return levels.size();
+    }
+
+    /**
+     * Vacía la caché (por ejemplo, tras editar los archivos de nivel).
+     */
+    public void clear() {
+        levels.clear();
+    }
+}
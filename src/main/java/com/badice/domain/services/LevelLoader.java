@@ -6,6 +6,7 @@ import com.badice.domain.config.LevelConfig.EntityConfig;
 import com.badice.domain.entities.Position;
 import com.badice.domain.exceptions.LevelLoadException;
 import com.badice.domain.exceptions.InvalidConfigurationException;
+import com.badice.domain.jfr.LevelLoadEvent;
 import com.badice.domain.utils.GameLogger;
 
 import java.io.*;
@@ -22,15 +23,23 @@ public class LevelLoader {
      */
     public LevelConfig loadLevel(int levelNumber) throws LevelLoadException {
         String fileName = LEVELS_DIR + "level" + levelNumber + ".txt";
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        event.level = levelNumber;
 
         try {
-            return loadLevelFromFile(fileName);
+            LevelConfig config = loadLevelFromFile(fileName);
+            event.phases = config.getTotalPhases();
+            event.success = true;
+            return config;
         } catch (IOException e) {
             logger.logError("Failed to load level " + levelNumber, e);
             throw new LevelLoadException("No se pudo cargar el nivel " + levelNumber, fileName, e);
         } catch (InvalidConfigurationException e) {
             logger.logGameException(e);
             throw new LevelLoadException("Configuración inválida en nivel " + levelNumber, fileName, e);
+        } finally {
+            event.commit();
         }
     }
 
@@ -7,7 +7,6 @@ import com.badice.domain.entities.IceBlock;
 import com.badice.domain.entities.Player;
 import com.badice.domain.entities.Position;
 
-import com.badice.domain.interfaces.Collidable;
 import com.badice.domain.interfaces.Movable;
 
 /**
@@ -37,14 +36,9 @@ public class MovementService {
         // Si es un enemigo, permitimos que se mueva a la posición del jugador para
         // "matarlo"
         if (entity instanceof Enemy) {
-            boolean blockedByNonPlayer = map.getEntities().stream()
-                    .filter(e -> e.isActive() && e instanceof Collidable)
-                    .filter(e -> !(e instanceof IceBlock)) // Ignorar hielos (ya fueron destruidos por el pattern)
-                    .map(e -> (Collidable) e)
-                    .filter(Collidable::isSolid)
-                    .filter(e -> !(e instanceof Player)) // Ignorar al jugador
-                    .filter(e -> !e.equals(entity)) // Ignorar a sí mismo
-                    .anyMatch(e -> e.getCollisionPosition().equals(targetPosition));
+            // Ignorar hielos (ya fueron destruidos por el pattern), al jugador y a sí mismo
+            boolean blockedByNonPlayer = map.isPositionBlocked(targetPosition,
+                    e -> e instanceof IceBlock || e instanceof Player || e == entity);
 
             if (blockedByNonPlayer) {
                 return false;
@@ -54,12 +48,8 @@ public class MovementService {
             if (collisionDetector.willCollideWithSolid(targetPosition, map)) {
                 // Si la entidad es el jugador, verificar si lo que bloquea es un enemigo
                 if (entity instanceof Player) {
-                    boolean blockedByNonEnemy = map.getEntities().stream()
-                            .filter(e -> e.isActive() && e instanceof Collidable)
-                            .map(e -> (Collidable) e)
-                            .filter(Collidable::isSolid)
-                            .filter(e -> !(e instanceof Enemy)) // Ignorar enemigos
-                            .anyMatch(e -> e.getCollisionPosition().equals(targetPosition));
+                    // Ignorar enemigos
+                    boolean blockedByNonEnemy = map.isPositionBlocked(targetPosition, e -> e instanceof Enemy);
 
                     if (blockedByNonEnemy) {
                         return false;
@@ -0,0 +1,237 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.Direction;
+import com.badice.domain.entities.Enemy;
+import com.badice.domain.entities.Fruit;
+import com.badice.domain.entities.GameMap;
+import com.badice.domain.entities.PackedPosition;
+import com.badice.domain.entities.Player;
+import com.badice.domain.entities.Position;
+
+import java.util.function.Predicate;
+
+/**
+ * Campos de distancia compartidos por toda la IA de un tick.
+ * <p>
+ * Hay un campo por jugador activo (para los enemigos que persiguen), que solo
+ * se recalcula cuando el jugador cambia de celda o cambia la disposición de
+ * obstáculos del mapa, y un campo hacia las frutas (para los bots), que se
+ * recalcula como mucho una vez por tick. También hay un campo de amenaza con
+ * origen en todos los enemigos activos, compartido por los bots que huyen. Así
+ * el coste de la IA no depende del número de perseguidores ni de bots.
+ * <p>
+ * En mapas pequeños mantiene además una {@link DistanceTable} con la distancia
+ * exacta entre cualquier par de celdas, que los bots consultan en O(1).
+ */
+public class NavigationService {
+    private static final int MAX_PLAYERS = 2;
+
+    private GameMap map;
+    private long tick;
+
+    // [jugador][0 = hielo bloquea, 1 = hielo se ignora]
+    private final CachedField[][] playerFields = new CachedField[MAX_PLAYERS][2];
+    private final CachedField fruitField = new CachedField();
+    private final CachedField threatField = new CachedField();
+    private final DistanceTable distanceTable = new DistanceTable();
+    private final DistanceField fallbackField = new DistanceField();
+    private int[] sources = new int[16];
+
+    public NavigationService() {
+        for (CachedField[] fields : playerFields) {
+            fields[0] = new CachedField();
+            fields[1] = new CachedField();
+        }
+    }
+
+    /**
+     * Debe llamarse al comienzo de cada tick con el mapa actual.
+     */
+    public void beginTick(GameMap map) {
+        if (this.map != map) {
+            this.map = map;
+            invalidate();
+            distanceTable.detach();
+            if (map != null && DistanceTable.supports(map)) {
+                distanceTable.attach(map);
+            }
+        }
+        tick++;
+    }
+
+    /**
+     * Siguiente paso de un perseguidor hacia el jugador activo más cercano.
+     *
+     * @param ignoreIce true si el perseguidor rompe el hielo (calamar)
+     * @param canMove   filtro de direcciones posibles este tick (otras entidades)
+     * @return la dirección, o null si no hay jugadores alcanzables
+     */
+    public Direction stepTowardsNearestPlayer(Position from, boolean ignoreIce, Predicate<Direction> canMove) {
+        if (map == null) {
+            return null;
+        }
+        DistanceField nearest = null;
+        int nearestDistance = DistanceField.UNREACHABLE;
+        int count = Math.min(map.getPlayerCount(), MAX_PLAYERS);
+        for (int i = 0; i < count; i++) {
+            Player player = map.getPlayer(i);
+            if (player == null || !player.isActive()) {
+                continue;
+            }
+            DistanceField field = playerField(i, player, ignoreIce);
+            int distance = field.distanceAt(from);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = field;
+            }
+        }
+        return nearest != null ? nearest.stepFrom(from, canMove) : null;
+    }
+
+    /**
+     * Distancia por camino entre dos posiciones para un bot, o
+     * {@link DistanceField#UNREACHABLE}. Usa la tabla si está disponible.
+     */
+    public int pathDistance(Position from, Position to) {
+        if (map == null) {
+            return DistanceField.UNREACHABLE;
+        }
+        int a = cellOf(from);
+        int b = cellOf(to);
+        if (a < 0 || b < 0) {
+            return DistanceField.UNREACHABLE;
+        }
+        if (distanceTable.isAttached()) {
+            return distanceTable.distance(a, b);
+        }
+        sources[0] = b;
+        fallbackField.compute(map, sources, 1, map::isObstacleCell);
+        return fallbackField.distanceAt(from);
+    }
+
+    /**
+     * Siguiente paso de un bot hacia la fruta sin recoger más cercana (por
+     * camino, no en línea recta), o null si no hay ninguna alcanzable.
+     */
+    public Direction stepTowardsNearestFruit(Position from) {
+        if (map == null) {
+            return null;
+        }
+        if (distanceTable.isAttached()) {
+            return stepTowardsNearestFruitByTable(from);
+        }
+        if (fruitField.tick != tick) {
+            int count = 0;
+            for (Fruit fruit : map.fruits()) {
+                if (fruit.isActive() && !fruit.isCollected()) {
+                    count = addSource(count, fruit.getPosition());
+                }
+            }
+            fruitField.field.compute(map, sources, count, map::isObstacleCell);
+            fruitField.tick = tick;
+        }
+        if (fruitField.field.distanceAt(from) == DistanceField.UNREACHABLE) {
+            return null;
+        }
+        return fruitField.field.stepFrom(from, direction -> true);
+    }
+
+    /**
+     * Distancia por camino desde la posición al enemigo activo más cercano, o
+     * {@link DistanceField#UNREACHABLE} si ninguno puede llegar.
+     */
+    public int threatDistance(Position position) {
+        return threatField().distanceAt(position);
+    }
+
+    /**
+     * Paso que más aleja a un bot de los enemigos (por camino), entre las
+     * direcciones aceptadas por {@code canMove}; null si no hay ninguna.
+     */
+    public Direction stepAwayFromThreat(Position from, Predicate<Direction> canMove) {
+        return threatField().stepAwayFrom(from, canMove);
+    }
+
+    /**
+     * Campo multi-origen desde todos los enemigos activos, una vez por tick.
+     * Se propaga por donde pueden moverse los enemigos.
+     */
+    private DistanceField threatField() {
+        if (threatField.tick != tick && map != null) {
+            int count = 0;
+            for (Enemy enemy : map.enemies()) {
+                if (enemy.isActive()) {
+                    count = addSource(count, enemy.getPosition());
+                }
+            }
+            threatField.field.compute(map, sources, count, next -> map.isWallCell(next, false));
+            threatField.tick = tick;
+        }
+        return threatField.field;
+    }
+
+    private Direction stepTowardsNearestFruitByTable(Position from) {
+        int start = cellOf(from);
+        if (start < 0) {
+            return null;
+        }
+        int nearestCell = -1;
+        int nearestDistance = DistanceField.UNREACHABLE;
+        for (Fruit fruit : map.fruits()) {
+            if (fruit.isActive() && !fruit.isCollected()) {
+                int cell = cellOf(fruit.getPosition());
+                int distance = cell < 0 ? DistanceField.UNREACHABLE : distanceTable.distance(start, cell);
+                if (distance < nearestDistance) {
+                    nearestDistance = distance;
+                    nearestCell = cell;
+                }
+            }
+        }
+        return nearestCell >= 0 ? distanceTable.step(start, nearestCell) : null;
+    }
+
+    private int cellOf(Position position) {
+        return PackedPosition.cellIndex(position.getX(), position.getY(), map.getWidth(), map.getHeight());
+    }
+
+    private DistanceField playerField(int index, Player player, boolean ignoreIce) {
+        CachedField cached = playerFields[index][ignoreIce ? 1 : 0];
+        int cell = cellOf(player.getPosition());
+        long version = map.getLayoutVersion();
+        if (cached.sourceCell != cell || cached.layoutVersion != version) {
+            sources[0] = cell;
+            cached.field.compute(map, sources, 1, next -> map.isWallCell(next, ignoreIce));
+            cached.sourceCell = cell;
+            cached.layoutVersion = version;
+        }
+        return cached.field;
+    }
+
+    private int addSource(int count, Position position) {
+        int cell = cellOf(position);
+        if (cell < 0) {
+            return count;
+        }
+        if (count == sources.length) {
+            sources = java.util.Arrays.copyOf(sources, count * 2);
+        }
+        sources[count] = cell;
+        return count + 1;
+    }
+
+    private void invalidate() {
+        for (CachedField[] fields : playerFields) {
+            fields[0].layoutVersion = -1;
+            fields[1].layoutVersion = -1;
+        }
+        fruitField.tick = -1;
+        threatField.tick = -1;
+    }
+
+    private static final class CachedField {
+        final DistanceField field = new DistanceField();
+        int sourceCell = -1;
+        long layoutVersion = -1;
+        long tick = -1;
+    }
+}
@@ -1,85 +1,158 @@
 package com.badice.domain.services;
 
 import com.badice.domain.entities.*;
-import java.util.*;
+import com.badice.domain.jfr.PathSearchEvent;
 
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BFS over the map's cell indices. Passability is read from the map's
+ * obstacle layer (terrain, blocks and ice), and the search buffers are
+ * preallocated per thread and grown to the map size on demand.
+ */
 public class PathFinder {
-    
+
+    private static final ThreadLocal<Search> SEARCH = ThreadLocal.withInitial(Search::new);
+
+    // Process-wide search counters (distance field computations included)
+    private static final LongAdder SEARCHES = new LongAdder();
+    private static final LongAdder EXPANDED_NODES = new LongAdder();
+
     public static Direction getNextStep(Position start, Position target, GameMap map) {
         if (start.equals(target)) return null;
 
-        Queue<Position> queue = new LinkedList<>();
-        queue.add(start);
-        
-        Map<Position, Position> cameFrom = new HashMap<>();
-        cameFrom.put(start, null);
-        
-        // BFS to find target
-        Position current = null;
-        boolean found = false;
-        
-        Set<Position> visited = new HashSet<>();
-        visited.add(start);
-
-        while (!queue.isEmpty()) {
-            current = queue.poll();
-
-            if (current.equals(target)) {
-                found = true;
-                break;
-            }
+        int width = map.getWidth();
+        int height = map.getHeight();
+        int startCell = PackedPosition.cellIndex(start.getX(), start.getY(), width, height);
+        int targetCell = PackedPosition.cellIndex(target.getX(), target.getY(), width, height);
+        if (startCell < 0 || targetCell < 0) return null;
 
-            for (Direction dir : Direction.values()) {
-                Position next = current.move(dir);
-                
-                // Check bounds and obstacles
-                if (isValidMove(next, map) && !visited.contains(next)) { // Using isValidMove from somewhere? Or custom check?
-                    // Custom check logic here as we don't have access to MovementService directly
-                    // But we can check map entities.
-                    // Actually, bots can move through powerups but not walls/ice usually.
-                    // Let's assume basic collision logic: no Wall, no IceBlock.
-                    if (!isBlocked(next, map)) {
-                        queue.add(next);
-                        visited.add(next);
-                        cameFrom.put(next, current);
-                    }
-                }
-            }
+        PathSearchEvent event = new PathSearchEvent();
+        event.begin();
+        Search search = SEARCH.get();
+        if (!search.run(map, startCell, targetCell)) { // No path found
+            commit(event, search, -1);
+            return null;
         }
 
-        if (!found) return null; // No path found
-
         // Backtrack to find the first step
-        Position step = target;
-        while (cameFrom.get(step) != null && !cameFrom.get(step).equals(start)) {
-            step = cameFrom.get(step);
+        int step = targetCell;
+        int length = 1;
+        while (search.parent[step] != startCell) {
+            step = search.parent[step];
+            length++;
         }
-        
+        commit(event, search, length);
+
         // Determine direction from start to step
-        return getDirection(start, step);
+        return getDirection(startCell, step, width);
     }
-    
+
     public static boolean isValidMove(Position pos, GameMap map) {
-        return pos.getX() >= 0 && pos.getX() < 15 && pos.getY() >= 0 && pos.getY() < 11; // Hardcoded bounds from GameEngine/Factory
+        return map.isValidPosition(pos);
     }
 
     public static boolean isBlocked(Position pos, GameMap map) {
-        // Simple check for blocking entities
-        for (GameEntity entity : map.getEntities()) {
-            if (entity.getPosition().equals(pos)) {
-                if (entity instanceof Block || entity instanceof IceBlock) { // Assuming Block is Wall
+        return map.isObstacle(pos);
+    }
+
+    /**
+     * Number of searches run in this process, including {@link DistanceField}
+     * computations.
+     */
+    public static long getSearchCount() {
+        return SEARCHES.sum();
+    }
+
+    /**
+     * Total number of cells expanded by those searches.
+     */
+    public static long getExpandedNodeCount() {
+        return EXPANDED_NODES.sum();
+    }
+
+    static void recordSearch(int expandedNodes) {
+        SEARCHES.increment();
+        EXPANDED_NODES.add(expandedNodes);
+    }
+
+    private static void commit(PathSearchEvent event, Search search, int pathLength) {
+        if (event.shouldCommit()) {
+            event.expandedNodes = search.expanded;
+            event.pathLength = pathLength;
+            event.found = pathLength >= 0;
+            event.commit();
+        }
+    }
+
+    private static Direction getDirection(int from, int to, int width) {
+        if (to == from + 1) return Direction.RIGHT;
+        if (to == from - 1) return Direction.LEFT;
+        if (to == from + width) return Direction.DOWN;
+        if (to == from - width) return Direction.UP;
+        return null;
+    }
+
+    /**
+     * Reusable BFS buffers. Cells are marked visited with a per-search stamp so
+     * the arrays never need clearing.
+     */
+    private static final class Search {
+        private int[] queue = new int[0];
+        private int[] parent = new int[0];
+        private int[] visited = new int[0];
+        private int stamp;
+        private int expanded; // cells dequeued by the last run
+
+        boolean run(GameMap map, int startCell, int targetCell) {
+            int width = map.getWidth();
+            int height = map.getHeight();
+            ensureCapacity(width * height);
+            int mark = nextStamp();
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = startCell;
+            visited[startCell] = mark;
+            parent[startCell] = -1;
+
+            while (head < tail) {
+                int current = queue[head++];
+                if (current == targetCell) {
+                    expanded = head;
+                    recordSearch(head);
                     return true;
                 }
+
+                for (int i = 0; i < PackedPosition.CARDINAL_COUNT; i++) {
+                    int next = PackedPosition.neighbourCell(current, PackedPosition.cardinal(i), width, height);
+                    if (next >= 0 && visited[next] != mark && !map.isObstacleCell(next)) {
+                        visited[next] = mark;
+                        parent[next] = current;
+                        queue[tail++] = next;
+                    }
+                }
             }
+            expanded = head;
+            recordSearch(head);
+            return false;
         }
-        return false;
-    }
 
-    private static Direction getDirection(Position from, Position to) {
-        if (to.getX() > from.getX()) return Direction.RIGHT;
-        if (to.getX() < from.getX()) return Direction.LEFT;
-        if (to.getY() > from.getY()) return Direction.DOWN;
-        if (to.getY() < from.getY()) return Direction.UP;
-        return null;
+        private void ensureCapacity(int cells) {
+            if (queue.length < cells) {
+                queue = new int[cells];
+                parent = new int[cells];
+                visited = new int[cells];
+                stamp = 0;
+            }
+        }
+
+        private int nextStamp() {
+            if (++stamp == 0) {
+                java.util.Arrays.fill(visited, 0);
+                stamp = 1;
+            }
+            return stamp;
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.badice.domain.services;
 
+import com.badice.domain.jfr.PersistenceEvent;
 import com.badice.domain.models.GameSaveData;
+import com.badice.domain.models.Replay;
 
 import java.io.*;
 
@@ -11,6 +13,7 @@ import java.io.*;
 public class PersistenceService {
 
     private static final String SAVE_FILE_NAME = "savegame.dat";
+    private static final String REPLAY_FILE_NAME = "replay.dat";
 
     /**
      * Guarda el estado actual del juego en un archivo.
@@ -19,8 +22,12 @@ public class PersistenceService {
      * @throws IOException Si ocurre un error de escritura
      */
     public void saveGame(GameSaveData state) throws IOException {
+        PersistenceEvent event = begin(PersistenceEvent.SAVE);
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(SAVE_FILE_NAME))) {
             oos.writeObject(state);
+            event.success = true;
+        } finally {
+            commit(event, SAVE_FILE_NAME);
         }
     }
 
@@ -32,9 +39,62 @@ public class PersistenceService {
      * @throws ClassNotFoundException Si las clases guardadas no coinciden
      */
     public GameSaveData loadGame() throws IOException, ClassNotFoundException {
+        PersistenceEvent event = begin(PersistenceEvent.LOAD);
         try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(SAVE_FILE_NAME))) {
             GameSaveData state = (GameSaveData) ois.readObject();
+            event.success = true;
             return state;
+        } finally {
+            commit(event, SAVE_FILE_NAME);
+        }
+    }
+
+    /**
+     * Guarda una repetición en el archivo de la última repetición.
+     */
+    public void saveReplay(Replay replay) throws IOException {
+        saveReplay(replay, new File(REPLAY_FILE_NAME));
+    }
+
+    public void saveReplay(Replay replay, File file) throws IOException {
+        PersistenceEvent event = begin(PersistenceEvent.SAVE_REPLAY);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            replay.write(out);
+            event.success = true;
+        } finally {
+            commit(event, file.getPath());
+        }
+    }
+
+    /**
+     * Carga una repetición guardada con {@link #saveReplay(Replay, File)}.
+     */
+    public Replay loadReplay(File file) throws IOException {
+        PersistenceEvent event = begin(PersistenceEvent.LOAD_REPLAY);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            Replay replay = Replay.read(in);
+            event.success = true;
+            return replay;
+        } finally {
+            commit(event, file.getPath());
+        }
+    }
+
+    private static PersistenceEvent begin(String operation) {
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        event.operation = operation;
+        return event;
+    }
+
+    // Se cierra después del flujo, así el tamaño es el del archivo completo
+    private static void commit(PersistenceEvent event, String fileName) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = fileName;
+            event.bytes = new File(fileName).length();
+            event.commit();
         }
     }
 
@@ -0,0 +1,164 @@
+package com.badice.domain.services;
+
+import com.badice.domain.factories.BotStrategyFactory;
+import com.badice.domain.models.Replay;
+import com.badice.domain.states.PlayingState;
+
+/**
+ * Vuelve a simular una {@link Replay} en un motor propio: carga el nivel con
+ * la misma semilla y aplica cada entrada antes del mismo tick que en la
+ * partida original.
+ * <p>
+ * {@link #tick()} sirve de paso para un {@link GameLoop} (verla en la ventana
+ * al ritmo que se quiera) y {@link #step(int)} para simularla sin ventana.
+ * {@link #seek(long)} salta a cualquier tick partiendo del fotograma clave más
+ * cercano. Como el motor, no es seguro entre hilos.
+ */
+public class ReplayPlayer {
+    private final Replay replay;
+    private final GameEngine engine;
+    private int nextEvent;
+
+    public ReplayPlayer(Replay replay) {
+        this(replay, new LevelCache());
+    }
+
+    public ReplayPlayer(Replay replay, LevelCache levels) {
+        this.replay = replay;
+        this.engine = new GameEngine(levels);
+        if (replay.getBot1() != null) {
+            engine.setBot1Strategy(BotStrategyFactory.create(replay.getBot1()));
+        }
+        if (replay.getBot2() != null) {
+            engine.setBot2Strategy(BotStrategyFactory.create(replay.getBot2()));
+        }
+        restart();
+    }
+
+    private void restart() {
+        engine.startReplayLevel(replay);
+        engine.changeState(new PlayingState());
+        nextEvent = 0;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Ticks de simulación reproducidos.
+     */
+    public long getTick() {
+        return engine.getClock().getTicks();
+    }
+
+    /**
+     * Indica si ya se llegó al final grabado o la partida terminó antes.
+     */
+    public boolean isFinished() {
+        if (!engine.getStateManager().isInState(PlayingState.class)) {
+            return true;
+        }
+        return getTick() >= replay.getTicks() && !hasPendingEvents();
+    }
+
+    private boolean hasPendingEvents() {
+        return nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) <= getTick();
+    }
+
+    /**
+     * Aplica las entradas del tick actual y ejecuta un tick del motor. En el
+     * último tick grabado solo aplica las entradas; al terminar no hace nada.
+     */
+    public void tick() {
+        if (isFinished()) {
+            return;
+        }
+        while (hasPendingEvents()) {
+            apply(nextEvent++);
+        }
+        if (getTick() < replay.getTicks()) {
+            engine.update();
+        }
+    }
+
+    private void apply(int i) {
+        int player = replay.getPlayerIndex(i);
+        switch (replay.getAction(i)) {
+            case MOVE -> engine.movePlayer(replay.getDirection(i), player);
+            case CREATE_ICE -> engine.playerCreateIce(replay.getDirection(i), player);
+            case DESTROY_ICE -> engine.playerDestroyIce(replay.getDirection(i), player);
+            case RESET_TIMER -> engine.resetGameTimer();
+        }
+    }
+
+    /**
+     * Reproduce hasta {@code ticks} ticks seguidos, sin esperar entre ellos.
+     *
+     * @return número de ticks ejecutados
+     */
+    public int step(int ticks) {
+        long start = getTick();
+        while (getTick() - start < ticks && !isFinished()) {
+            tick();
+        }
+        return (int) (getTick() - start);
+    }
+
+    /**
+     * Salta al tick indicado (limitado a la duración grabada), hacia delante o
+     * hacia atrás. Vuelve al último fotograma clave anterior al tick, o al
+     * principio si no hay, y simula solo lo que falta; si el tick está por
+     * delante sin fotogramas clave en medio, sigue desde el actual. Las
+     * entradas de ese mismo tick quedan pendientes, como al llegar jugando.
+     * Si la partida terminó antes del tick, se queda en el final.
+     */
+    public void seek(long tick) {
+        long target = Math.max(0, Math.min(tick, replay.getTicks()));
+        int keyframe = replay.findKeyframe(target);
+        long keyframeTick = keyframe >= 0 ? replay.getKeyframeTick(keyframe) : 0;
+        if (target < getTick() || keyframeTick > getTick()) {
+            if (keyframe >= 0) {
+                engine.changeState(new PlayingState());
+                engine.restoreKeyframe(replay.getKeyframe(keyframe));
+                nextEvent = firstEventAt(keyframeTick);
+            } else {
+                restart();
+            }
+        }
+        while (getTick() < target && !isFinished()) {
+            tick();
+        }
+    }
+
+    private int firstEventAt(long tick) {
+        int low = 0;
+        int high = replay.getEventCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (replay.getEventTick(mid) < tick) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Reproduce lo que quede de una vez.
+     *
+     * @return número de ticks ejecutados
+     */
+    public long playToEnd() {
+        long start = getTick();
+        while (!isFinished()) {
+            tick();
+        }
+        return getTick() - start;
+    }
+}
@@ -0,0 +1,107 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.Direction;
+import com.badice.domain.enums.BotProfile;
+import com.badice.domain.enums.GameMode;
+import com.badice.domain.models.Replay;
+
+/**
+ * Graba las repeticiones de un motor (ver {@link GameEngine#setReplayRecorder}).
+ * <p>
+ * Cada carga de nivel empieza una repetición nueva y descarta la anterior; el
+ * motor le pasa las entradas de los jugadores humanos (no las de los bots,
+ * que se vuelven a calcular al reproducir). Solo se usa desde el hilo que
+ * mueve el motor.
+ * <p>
+ * Cada {@code keyframeInterval} ticks guarda además un fotograma clave con el
+ * estado del motor: más fotogramas hacen el archivo más grande y los saltos
+ * del reproductor más rápidos.
+ */
+public class ReplayRecorder {
+    /** 30 segundos de juego entre fotogramas clave. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 300;
+
+    private final int keyframeInterval;
+    private BotProfile bot1;
+    private BotProfile bot2;
+    private Replay.Builder current;
+    private long lastKeyframeTick;
+
+    public ReplayRecorder() {
+        this(DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param keyframeInterval ticks entre fotogramas clave, o 0 para no
+     *                         guardarlos
+     */
+    public ReplayRecorder(int keyframeInterval) {
+        if (keyframeInterval < 0) {
+            throw new IllegalArgumentException("Intervalo de fotogramas clave negativo: " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    /**
+     * Perfiles de los bots de las próximas partidas; el motor solo conoce sus
+     * estrategias.
+     */
+    public void setBotProfiles(BotProfile bot1, BotProfile bot2) {
+        this.bot1 = bot1;
+        this.bot2 = bot2;
+    }
+
+    /**
+     * Indica si hay un intento de nivel en grabación.
+     */
+    public boolean isRecording() {
+        return current != null;
+    }
+
+    void begin(long levelSeed, int level, GameMode mode, int startScore, int startFruits) {
+        current = new Replay.Builder(levelSeed, level, mode, bot1, bot2, startScore, startFruits);
+        lastKeyframeTick = 0;
+    }
+
+    /**
+     * Deja de grabar, p. ej. al cargar una partida guardada a medias, que no
+     * puede repetirse desde el principio del nivel.
+     */
+    void stop() {
+        current = null;
+    }
+
+    void record(long tick, Replay.Action action, Direction direction, int playerIndex) {
+        if (current != null && playerIndex >= 0 && playerIndex <= 3) {
+            current.add(tick, action, direction, playerIndex);
+        }
+    }
+
+    /**
+     * Indica si toca guardar un fotograma clave en {@code tick}. Con la pausa
+     * el reloj no avanza, así que cada tick se guarda una sola vez.
+     */
+    boolean wantsKeyframe(long tick) {
+        return current != null && keyframeInterval > 0 && tick > lastKeyframeTick
+                && tick % keyframeInterval == 0;
+    }
+
+    void addKeyframe(long tick, byte[] state) {
+        if (current != null) {
+            current.addKeyframe(tick, state);
+            lastKeyframeTick = tick;
+        }
+    }
+
+    /**
+     * Repetición del intento en curso hasta {@code ticks}, o null si no se
+     * está grabando.
+     */
+    Replay snapshot(long ticks) {
+        return current != null ? current.build(ticks) : null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.badice.domain.services;
+
+import com.badice.domain.config.GameConfig;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Aloja muchas partidas aisladas en una misma JVM.
+ * <p>
+ * Cada {@link GameSession} tiene su propio motor y todo su estado mutable; lo
+ * único compartido son los datos inmutables de los niveles (una
+ * {@link LevelCache} común). Los ticks de todas las sesiones los ejecuta un
+ * planificador compartido con un hilo por núcleo, cada sesión a su ritmo fijo,
+ * en lugar de un hilo por partida.
+ */
+public class SessionHost implements AutoCloseable {
+    private final LevelCache levels;
+    private final long tickMillis;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    public SessionHost() {
+        this(Runtime.getRuntime().availableProcessors(), GameConfig.GAME_TICK_RATE, new LevelCache());
+    }
+
+    /**
+     * @param threads    hilos del planificador compartido
+     * @param tickMillis periodo de tick de cada sesión
+     */
+    public SessionHost(int threads, long tickMillis, LevelCache levels) {
+        this.levels = levels;
+        this.tickMillis = tickMillis;
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, daemonThreads());
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "session-host-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Abre una sesión sin fotografías.
+     *
+     * @see #open(Consumer, boolean)
+     */
+    public GameSession open(Consumer<GameEngine> setup) {
+        return open(setup, false);
+    }
+
+    /**
+     * Crea un motor nuevo sobre la caché de niveles compartida, lo prepara con
+     * {@code setup} en el hilo que llama (antes de programar ningún tick) y
+     * empieza a ejecutarlo.
+     *
+     * @param publishFrames si cada tick publica un {@code FrameSnapshot} (para
+     *                      observar la partida; cuesta memoria por tick)
+     */
+    public GameSession open(Consumer<GameEngine> setup, boolean publishFrames) {
+        GameEngine engine = new GameEngine(levels);
+        setup.accept(engine);
+
+        GameSession session = new GameSession(nextId.incrementAndGet(), engine, publishFrames);
+        session.start();
+        session.setSchedule(scheduler.scheduleAtFixedRate(session::tick, 0, tickMillis, TimeUnit.MILLISECONDS));
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Cierra una sesión: deja de programar sus ticks y apaga su motor.
+     */
+    public void close(GameSession session) {
+        if (sessions.remove(session.getId()) != null) {
+            session.stop();
+            session.getEngine().shutdown();
+        }
+    }
+
+    public GameSession getSession(long id) {
+        return sessions.get(id);
+    }
+
+    public Collection<GameSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Caché de niveles compartida por todas las sesiones.
+     */
+    public LevelCache getLevels() {
+        return levels;
+    }
+
+    /**
+     * Cierra todas las sesiones y espera a que terminen los ticks en curso.
+     */
+    @Override
+    public void close() {
+        for (GameSession session : sessions.values()) {
+            close(session);
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
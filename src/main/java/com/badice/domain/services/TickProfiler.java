@@ -0,0 +1,183 @@
+package com.badice.domain.services;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Perfilador por fases de {@link GameEngine#updateEntities()}.
+ * <p>
+ * Acumula los nanosegundos de cada fase durante un tick y, al terminarlo,
+ * guarda el total de cada fase en una ventana circular con los últimos
+ * {@link #WINDOW} ticks, de la que se sacan p50/p99/máximo al consultar.
+ * Registrar no reserva memoria ni bloquea; las consultas copian la ventana y
+ * pueden hacerse desde otro hilo (el resultado puede mezclar ticks contiguos).
+ * <p>
+ * Desactivado por defecto; se activa con {@code -Dbadice.profile=true} o
+ * desde JMX. Desactivado, el motor no llama a {@code System.nanoTime()}.
+ */
+public final class TickProfiler {
+    public static final int WINDOW = 1024;
+
+    /**
+     * Fases de un tick.
+     */
+    public enum Phase {
+        /** Evaluación de patrones y movimiento de los enemigos normales. */
+        ENEMY_PATTERNS,
+        /** Embestida del narval y rotura de hielo del calamar. */
+        ENEMY_SPECIAL,
+        /** IA de los jugadores máquina. */
+        AI,
+        /** Colisiones de los jugadores (frutas, enemigos, fogatas). */
+        COLLISIONS,
+        /** Cambio de fase y condición de victoria. */
+        PHASE_CHECKS,
+        /** Actualización de entidades y limpieza del mapa. */
+        ENTITY_UPDATE,
+        /** Tick completo. */
+        TOTAL
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private volatile boolean enabled = Boolean.getBoolean("badice.profile");
+    private final long[] current = new long[PHASES.length];
+    private final long[][] samples = new long[PHASES.length][WINDOW];
+    private volatile long ticks;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Suma tiempo a una fase del tick en curso.
+     */
+    public void record(Phase phase, long nanos) {
+        current[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Cierra un tramo de una fase que empezó en {@code since} y devuelve el
+     * instante actual, para encadenar la siguiente fase.
+     */
+    public long lap(Phase phase, long since) {
+        long now = System.nanoTime();
+        current[phase.ordinal()] += now - since;
+        return now;
+    }
+
+    /**
+     * Cierra el tick que empezó en {@code tickStart} y guarda sus fases.
+     */
+    public void endTick(long tickStart) {
+        current[Phase.TOTAL.ordinal()] = System.nanoTime() - tickStart;
+        int slot = (int) (ticks % WINDOW);
+        for (int i = 0; i < current.length; i++) {
+            samples[i][slot] = current[i];
+            current[i] = 0;
+        }
+        ticks++;
+    }
+
+    /**
+     * Número de ticks registrados desde el último {@link #reset()}.
+     */
+    public long getTickCount() {
+        return ticks;
+    }
+
+    public void reset() {
+        ticks = 0;
+        Arrays.fill(current, 0);
+    }
+
+    /**
+     * Estadísticas de una fase sobre la ventana actual.
+     */
+    public PhaseStats getStats(Phase phase) {
+        int count = (int) Math.min(ticks, WINDOW);
+        long[] window = Arrays.copyOf(samples[phase.ordinal()], count);
+        Arrays.sort(window);
+        return new PhaseStats(phase, window);
+    }
+
+    /**
+     * Estadísticas de todas las fases, en orden.
+     */
+    public Map<Phase, PhaseStats> getAllStats() {
+        Map<Phase, PhaseStats> stats = new EnumMap<>(Phase.class);
+        for (Phase phase : PHASES) {
+            stats.put(phase, getStats(phase));
+        }
+        return stats;
+    }
+
+    /**
+     * Percentiles de una fase, en nanosegundos.
+     */
+    public static final class PhaseStats {
+        private final Phase phase;
+        private final int count;
+        private final long p50;
+        private final long p99;
+        private final long max;
+        private final long mean;
+
+        private PhaseStats(Phase phase, long[] sorted) {
+            this.phase = phase;
+            this.count = sorted.length;
+            this.p50 = percentile(sorted, 0.50);
+            this.p99 = percentile(sorted, 0.99);
+            this.max = count > 0 ? sorted[count - 1] : 0;
+            long sum = 0;
+            for (long value : sorted) {
+                sum += value;
+            }
+            this.mean = count > 0 ? sum / count : 0;
+        }
+
+        // Percentil por rango más cercano
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public long getMean() {
+            return mean;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: p50=%.3fms p99=%.3fms max=%.3fms (n=%d)",
+                    phase, p50 / 1e6, p99 / 1e6, max / 1e6, count);
+        }
+    }
+}
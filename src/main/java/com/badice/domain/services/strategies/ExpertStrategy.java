@@ -2,19 +2,33 @@ package com.badice.domain.services.strategies;
 
 import com.badice.domain.entities.*;
 import com.badice.domain.interfaces.BotStrategy;
-import java.util.List;
+import com.badice.domain.services.NavigationService;
 
 public class ExpertStrategy implements BotStrategy {
     private final HungryStrategy hungry = new HungryStrategy();
     private final FearfulStrategy fearful = new FearfulStrategy();
+    private NavigationService navigation;
+
+    @Override
+    public void setNavigation(NavigationService navigation) {
+        this.navigation = navigation;
+        hungry.setNavigation(navigation);
+        fearful.setNavigation(navigation);
+    }
     
     @Override
     public Direction calculateNextMove(Player bot, GameMap map) {
         Position botPos = bot.getPosition();
-        List<Enemy> enemies = map.getEnemies();
-        
+
+        // Distancia por camino al enemigo más cercano (una BFS por tick para todos)
+        if (navigation != null) {
+            if (navigation.threatDistance(botPos) < 3) {
+                return fearful.calculateNextMove(bot, map);
+            }
+            return hungry.calculateNextMove(bot, map);
+        }
         double minEnemyDist = Double.MAX_VALUE;
-        for (Enemy enemy : enemies) {
+        for (Enemy enemy : map.enemies()) {
             if (enemy.isActive()) {
                 double dist = botPos.distanceTo(enemy.getPosition());
                 if (dist < minEnemyDist) {
@@ -2,19 +2,38 @@ package com.badice.domain.services.strategies;
 
 import com.badice.domain.entities.*;
 import com.badice.domain.interfaces.BotStrategy;
-import java.util.List;
+import com.badice.domain.services.DistanceField;
+import com.badice.domain.services.NavigationService;
+import com.badice.domain.services.PathFinder;
+
 
 public class FearfulStrategy implements BotStrategy {
+    private NavigationService navigation;
+
+    @Override
+    public void setNavigation(NavigationService navigation) {
+        this.navigation = navigation;
+    }
+
     @Override
     public Direction calculateNextMove(Player bot, GameMap map) {
         Position botPos = bot.getPosition();
-        List<Enemy> enemies = map.getEnemies();
-        
+
+        // Campo de amenaza compartido: huir por camino real, no en línea recta
+        if (navigation != null && navigation.threatDistance(botPos) != DistanceField.UNREACHABLE) {
+            Direction step = navigation.stepAwayFromThreat(botPos, dir -> {
+                Position nextPos = botPos.move(dir);
+                return PathFinder.isValidMove(nextPos, map) && !PathFinder.isBlocked(nextPos, map);
+            });
+            if (step != null) {
+                return step;
+            }
+        }
         Position nearestEnemy = null;
         double minDistance = Double.MAX_VALUE;
         
         // Buscar enemigo más cercano
-        for (Enemy enemy : enemies) {
+        for (Enemy enemy : map.enemies()) {
             if (enemy.isActive()) {
                 double dist = botPos.distanceTo(enemy.getPosition());
                 if (dist < minDistance) {
@@ -25,7 +44,7 @@ public class FearfulStrategy implements BotStrategy {
         }
         
         if (nearestEnemy == null) {
-            return Direction.values()[(int)(Math.random() * 4)];
+            return Direction.values()[map.getRandom().nextInt(4)];
         }
         
         // Lógica mejorada: Moverse a la posición adyacente que maximice la distancia al enemigo
@@ -46,8 +65,6 @@ public class FearfulStrategy implements BotStrategy {
             }
         }
         
-        return bestDir != null ? bestDir : Direction.values()[(int)(Math.random() * 4)];
+        return bestDir != null ? bestDir : Direction.values()[map.getRandom().nextInt(4)];
     }
-    
-
 }
@@ -2,30 +2,44 @@ package com.badice.domain.services.strategies;
 
 import com.badice.domain.entities.*;
 import com.badice.domain.interfaces.BotStrategy;
-import java.util.List;
+import com.badice.domain.services.NavigationService;
+
 
 public class HungryStrategy implements BotStrategy {
+    private NavigationService navigation;
+
+    @Override
+    public void setNavigation(NavigationService navigation) {
+        this.navigation = navigation;
+    }
+
     @Override
     public Direction calculateNextMove(Player bot, GameMap map) {
         Position botPos = bot.getPosition();
-        List<GameEntity> entities = map.getEntities();
-        
+
+        // Campo compartido hacia las frutas: la más cercana por camino
+        if (navigation != null) {
+            Direction step = navigation.stepTowardsNearestFruit(botPos);
+            if (step != null) {
+                return step;
+            }
+        }
         Position nearestFruit = null;
         double minDistance = Double.MAX_VALUE;
         
         // Buscar fruta más cercana
-        for (GameEntity entity : entities) {
-            if (entity instanceof Fruit && !((Fruit) entity).isCollected()) {
-                double dist = botPos.distanceTo(entity.getPosition());
+        for (Fruit fruit : map.fruits()) {
+            if (!fruit.isCollected()) {
+                double dist = botPos.distanceTo(fruit.getPosition());
                 if (dist < minDistance) {
                     minDistance = dist;
-                    nearestFruit = entity.getPosition();
+                    nearestFruit = fruit.getPosition();
                 }
             }
         }
         
         if (nearestFruit == null) {
-            return Direction.values()[(int)(Math.random() * 4)];
+            return Direction.values()[map.getRandom().nextInt(4)];
         }
         
         // Usar BFS para encontrar el camino
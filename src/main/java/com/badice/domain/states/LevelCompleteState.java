@@ -10,7 +10,7 @@ public class LevelCompleteState implements GameState {
 
     @Override
     public void onEnter(GameEngine engine) {
-        System.out.println("¡Nivel completado!");
+        engine.announce("¡Nivel completado!");
         engine.pauseGameTimer();
     }
 
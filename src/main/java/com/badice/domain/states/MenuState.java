@@ -10,7 +10,7 @@ public class MenuState implements GameState {
 
     @Override
     public void onEnter(GameEngine engine) {
-        System.out.println("Entrando al menú principal...");
+        engine.announce("Entrando al menú principal...");
     }
 
     @Override
@@ -21,7 +21,7 @@ public class MenuState implements GameState {
 
     @Override
     public void onExit(GameEngine engine) {
-        System.out.println("Saliendo del menú principal...");
+        engine.announce("Saliendo del menú principal...");
     }
 
     @Override
@@ -10,7 +10,7 @@ public class PlayingState implements GameState {
 
     @Override
     public void onEnter(GameEngine engine) {
-        System.out.println("Iniciando el juego...");
+        engine.announce("Iniciando el juego...");
         engine.resetGameTimer();
     }
 
@@ -27,7 +27,7 @@ public class PlayingState implements GameState {
 
     @Override
     public void onExit(GameEngine engine) {
-        System.out.println("Saliendo del modo de juego...");
+        engine.announce("Saliendo del modo de juego...");
     }
 
     @Override
@@ -2,17 +2,18 @@ package com.badice.domain.utils;
 
 import com.badice.domain.exceptions.GameException;
 import java.io.*;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Sistema de logging centralizado para el juego.
  * Registra errores y eventos importantes en un archivo de log.
+ * Es único por proceso y seguro para varios hilos: todas las partidas
+ * alojadas escriben en el mismo archivo.
  */
 public class GameLogger {
-    private static GameLogger instance;
     private static final String LOG_FILE = "game_error.log";
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     private PrintWriter logWriter;
     private boolean loggingEnabled = true;
@@ -28,11 +29,13 @@ public class GameLogger {
         }
     }
 
-    public static synchronized GameLogger getInstance() {
-        if (instance == null) {
-            instance = new GameLogger();
-        }
-        return instance;
+    // Inicialización perezosa sin bloqueo (la clase Holder se carga al primer uso)
+    private static final class Holder {
+        static final GameLogger INSTANCE = new GameLogger();
+    }
+
+    public static GameLogger getInstance() {
+        return Holder.INSTANCE;
     }
 
     /**
@@ -85,7 +88,7 @@ public class GameLogger {
             return;
         }
 
-        String timestamp = DATE_FORMAT.format(new Date());
+        String timestamp = DATE_FORMAT.format(LocalDateTime.now());
         String logMessage = String.format("[%s] [%s] %s", timestamp, level, message);
 
         // Escribir en archivo
@@ -108,7 +111,7 @@ public class GameLogger {
     /**
      * Cierra el logger y libera recursos.
      */
-    public void close() {
+    public synchronized void close() {
         if (logWriter != null) {
             logInfo("GameLogger shutting down");
             logWriter.close();
@@ -119,7 +122,7 @@ public class GameLogger {
     /**
      * Limpia el archivo de log.
      */
-    public void clearLog() {
+    public synchronized void clearLog() {
         try {
             if (logWriter != null) {
                 logWriter.close();
@@ -2,20 +2,28 @@ package com.badice.presentation.controller;
 
 import com.badice.domain.config.GameConfig;
 import com.badice.domain.enums.GameMode;
+import com.badice.domain.models.FrameSnapshot;
 import com.badice.domain.services.GameEngine;
+import com.badice.domain.services.GameLoop;
+import com.badice.domain.services.ReplayRecorder;
 import com.badice.domain.states.MenuState;
 import com.badice.domain.states.PlayingState;
 import com.badice.domain.enums.BotProfile;
 import com.badice.domain.interfaces.BotStrategy;
-import com.badice.domain.services.strategies.ExpertStrategy;
-import com.badice.domain.services.strategies.FearfulStrategy;
-import com.badice.domain.services.strategies.HungryStrategy;
+import com.badice.domain.factories.BotStrategyFactory;
 import com.badice.presentation.view.*;
 
 import javax.swing.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 /**
  * Controlador principal que conecta la vista con el dominio.
+ * <p>
+ * Mientras el bucle de juego está en marcha el motor pertenece al hilo de
+ * simulación: desde Swing solo se le envían comandos ({@link GameLoop#submit})
+ * y se lee la última fotografía publicada. El resto de operaciones (cargar,
+ * reintentar, cambiar de nivel) se hacen con el bucle detenido.
  */
 public class GameController {
     private final GameEngine gameEngine;
@@ -38,18 +46,22 @@ public class GameController {
     private final InputHandler inputHandler;
     private final ActionMapper actionMapper;
     private final com.badice.domain.services.PersistenceService persistenceService;
+    private final ReplayRecorder replayRecorder;
 
-    private Timer gameLoopTimer;
+    private final GameLoop gameLoop;
     private Timer renderTimer;
 
     public GameController() {
         this.gameEngine = new GameEngine();
+        this.gameLoop = new GameLoop(gameEngine);
         this.actionMapper = new ActionMapper(gameEngine);
-        this.inputHandler = new InputHandler(actionMapper);
+        this.inputHandler = new InputHandler(actionMapper, gameLoop);
         this.persistenceService = new com.badice.domain.services.PersistenceService();
+        this.replayRecorder = new ReplayRecorder();
+        gameEngine.setReplayRecorder(replayRecorder);
 
         // Crear vistas
-        this.gamePanel = new GamePanel(gameEngine);
+        this.gamePanel = new GamePanel(gameLoop, gameEngine.getMonitor());
         this.menuPanel = new MenuPanel();
         this.gameOverPanel = new GameOverPanel();
         this.gameModeSelectionPanel = new GameModeSelectionPanel();
@@ -75,7 +87,10 @@ public class GameController {
         menuPanel.setPlayButtonListener(e -> showGameModeSelection());
         menuPanel.setLoadGameButtonListener(e -> loadGame());
         menuPanel.setSelectLevelButtonListener(e -> showLevelSelection());
-        menuPanel.setExitButtonListener(e -> System.exit(0));
+        menuPanel.setExitButtonListener(e -> {
+            shutdown();
+            System.exit(0);
+        });
 
         // Game mode selection panel listeners
         gameModeSelectionPanel.setOnePlayerButtonListener(e -> handleGameModeSelection(GameMode.ONE_PLAYER));
@@ -114,7 +129,7 @@ public class GameController {
         // Input handler
         gamePanel.addKeyListener(inputHandler);
 
-        // Save/Load key listener (F5/F9)
+        // Save/Load key listener (F5/F9) y panel de rendimiento (F3)
         gamePanel.addKeyListener(new java.awt.event.KeyAdapter() {
             @Override
             public void keyPressed(java.awt.event.KeyEvent e) {
@@ -122,6 +137,8 @@ public class GameController {
                     saveGame();
                 } else if (e.getKeyCode() == java.awt.event.KeyEvent.VK_F9) {
                     loadGame();
+                } else if (e.getKeyCode() == java.awt.event.KeyEvent.VK_F3) {
+                    gamePanel.togglePerformanceOverlay();
                 }
             }
         });
@@ -131,15 +148,11 @@ public class GameController {
      * Configura el bucle principal del juego.
      */
     private void setupGameLoop() {
-        // Timer para lógica del juego (10 FPS)
-        gameLoopTimer = new Timer(GameConfig.GAME_TICK_RATE, e -> {
-            gameEngine.update();
-            checkGameState();
-        });
-
-        // Timer para renderizado (60 FPS)
+        // La lógica corre en su propio hilo (GameLoop, 10 ticks/s); este timer
+        // solo repinta (60 FPS) y reacciona a los cambios de estado publicados
         renderTimer = new Timer(1000 / GameConfig.RENDER_FPS, e -> {
             gamePanel.update();
+            checkGameState();
         });
     }
 
@@ -184,6 +197,7 @@ public class GameController {
 
         gameEngine.setBot1Strategy(createStrategyFromProfile(p1Profile));
         gameEngine.setBot2Strategy(createStrategyFromProfile(p2Profile));
+        replayRecorder.setBotProfiles(p1Profile, p2Profile);
 
         if (selectedGameMode == GameMode.MVM) {
             // MvM: Colores fijos, iniciar directo
@@ -207,16 +221,7 @@ public class GameController {
     }
 
     private BotStrategy createStrategyFromProfile(BotProfile profile) {
-        switch (profile) {
-            case HUNGRY:
-                return new HungryStrategy();
-            case FEARFUL:
-                return new FearfulStrategy();
-            case EXPERT:
-                return new ExpertStrategy();
-            default:
-                return new HungryStrategy();
-        }
+        return BotStrategyFactory.create(profile);
     }
 
     /**
@@ -384,11 +389,33 @@ public class GameController {
     }
 
     private void checkGameState() {
-        if (gameEngine.getStateManager().isInState(com.badice.domain.states.LevelCompleteState.class)) {
+        FrameSnapshot frame = gameLoop.getLatestFrame();
+        if (!gameLoop.isRunning() || frame == null) {
+            return;
+        }
+        if ("LEVEL_COMPLETE".equals(frame.getStateName())) {
             stopGameLoop();
+            saveReplay();
             showVictoryScreen();
-        } else if (gameEngine.getStateManager().isInState(com.badice.domain.states.GameOverState.class)) {
+        } else if ("GAME_OVER".equals(frame.getStateName())) {
             showGameOver();
+            saveReplay();
+        }
+    }
+
+    /**
+     * Guarda la repetición del nivel que acaba de terminar. Con el bucle
+     * detenido; si falla no se molesta al jugador.
+     */
+    private void saveReplay() {
+        com.badice.domain.models.Replay replay = gameEngine.getReplay();
+        if (replay == null) {
+            return;
+        }
+        try {
+            persistenceService.saveReplay(replay);
+        } catch (java.io.IOException e) {
+            System.err.println("No se pudo guardar la repetición: " + e.getMessage());
         }
     }
 
@@ -446,7 +473,7 @@ public class GameController {
      * Inicia el bucle del juego.
      */
     private void startGameLoop() {
-        gameLoopTimer.start();
+        gameLoop.start();
         renderTimer.start();
     }
 
@@ -454,30 +481,40 @@ public class GameController {
      * Detiene el bucle del juego.
      */
     private void stopGameLoop() {
-        gameLoopTimer.stop();
         renderTimer.stop();
+        gameLoop.stop();
     }
 
     /**
      * Guarda el juego actual.
      */
     private void saveGame() {
-        if (!gameEngine.getStateManager().isInState(PlayingState.class) && !gameEngine.isPaused()) {
+        if (!gameLoop.isRunning()) {
             JOptionPane.showMessageDialog(mainFrame, "Solo puedes guardar durante el juego.", "Error",
                     JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        try {
-            com.badice.domain.models.GameSaveData data = gameEngine.getGameState();
-            persistenceService.saveGame(data);
-            JOptionPane.showMessageDialog(mainFrame, "¡Juego guardado correctamente!", "Guardado",
-                    JOptionPane.INFORMATION_MESSAGE);
-        } catch (Exception e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(mainFrame, "Error al guardar el juego: " + e.getMessage(), "Error",
-                    JOptionPane.ERROR_MESSAGE);
-        }
+        // Se guarda en el hilo de simulación, entre dos ticks; el resultado se
+        // muestra de vuelta en el hilo de Swing
+        gameLoop.submit(() -> {
+            if (!gameEngine.getStateManager().isInState(PlayingState.class) && !gameEngine.isPaused()) {
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(mainFrame,
+                        "Solo puedes guardar durante el juego.", "Error", JOptionPane.WARNING_MESSAGE));
+                return;
+            }
+
+            try {
+                com.badice.domain.models.GameSaveData data = gameEngine.getGameState();
+                persistenceService.saveGame(data);
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(mainFrame,
+                        "¡Juego guardado correctamente!", "Guardado", JOptionPane.INFORMATION_MESSAGE));
+            } catch (Exception e) {
+                e.printStackTrace();
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(mainFrame,
+                        "Error al guardar el juego: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+            }
+        });
     }
 
     /**
@@ -525,6 +562,21 @@ public class GameController {
      * Inicia la aplicación.
      */
     public void start() {
+        gameEngine.start();
+        mainFrame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                shutdown();
+            }
+        });
         mainFrame.setVisible(true);
     }
+
+    /**
+     * Detiene el bucle y apaga el motor antes de salir.
+     */
+    public void shutdown() {
+        stopGameLoop();
+        gameEngine.shutdown();
+    }
 }
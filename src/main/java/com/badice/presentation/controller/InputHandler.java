@@ -1,6 +1,7 @@
 package com.badice.presentation.controller;
 
 import com.badice.domain.entities.Direction;
+import com.badice.domain.services.GameLoop;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
@@ -8,15 +9,18 @@ import java.util.HashSet;
 import java.util.Set;
 
 /**
- * Captura la entrada del teclado del jugador.
+ * Captura la entrada del teclado del jugador. Las acciones no se ejecutan en
+ * el hilo de Swing: se entregan al hilo de simulación como comandos.
  */
 public class InputHandler implements KeyListener {
     private final Set<Integer> pressedKeys;
     private final ActionMapper actionMapper;
+    private final GameLoop gameLoop;
 
-    public InputHandler(ActionMapper actionMapper) {
+    public InputHandler(ActionMapper actionMapper, GameLoop gameLoop) {
         this.pressedKeys = new HashSet<>();
         this.actionMapper = actionMapper;
+        this.gameLoop = gameLoop;
     }
 
     @Override
@@ -24,8 +28,8 @@ public class InputHandler implements KeyListener {
         int keyCode = e.getKeyCode();
         pressedKeys.add(keyCode);
 
-        // Delegar al ActionMapper para procesar la acción
-        actionMapper.handleKeyPress(keyCode);
+        // Delegar al ActionMapper para procesar la acción en el siguiente tick
+        gameLoop.submit(() -> actionMapper.handleKeyPress(keyCode));
     }
 
     @Override
@@ -0,0 +1,127 @@
+package com.badice.presentation.controller;
+
+import com.badice.domain.config.GameConfig;
+import com.badice.domain.models.Replay;
+import com.badice.domain.services.GameLoop;
+import com.badice.domain.services.PersistenceService;
+import com.badice.domain.services.ReplayPlayer;
+import com.badice.presentation.view.GamePanel;
+import com.badice.presentation.view.MainFrame;
+
+import javax.swing.*;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Muestra una repetición en la ventana del juego. El {@link GameLoop} avanza
+ * la repetición en lugar del motor, a {@code speed} veces el ritmo normal; la
+ * vista es la misma {@link GamePanel} de una partida. Con las flechas
+ * izquierda y derecha se salta {@value #SEEK_TICKS} ticks atrás o adelante, e
+ * Inicio vuelve al principio (ver {@link ReplayPlayer#seek(long)}).
+ * <p>
+ * Uso: {@code java com.badice.Main --replay ARCHIVO [--speed X]}.
+ */
+public class ReplayViewer {
+    /** 10 segundos de juego. */
+    private static final int SEEK_TICKS = 100;
+
+    private final ReplayPlayer player;
+    private final GameLoop gameLoop;
+    private final MainFrame mainFrame;
+    private final GamePanel gamePanel;
+    private final Timer renderTimer;
+
+    public ReplayViewer(Replay replay, double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("La velocidad debe ser positiva: " + speed);
+        }
+        this.player = new ReplayPlayer(replay);
+        long tickMillis = Math.max(1, Math.round(GameConfig.GAME_TICK_RATE / speed));
+        // Al terminar, el bucle sigue en marcha por si se salta hacia atrás
+        this.gameLoop = new GameLoop(player.getEngine(), tickMillis, player::tick);
+        this.gamePanel = new GamePanel(gameLoop, player.getEngine().getMonitor());
+        this.mainFrame = new MainFrame();
+        mainFrame.setTitle(String.format(Locale.ROOT, "%s - repetición nivel %d (x%.1f)",
+                mainFrame.getTitle(), replay.getLevel(), speed));
+
+        gamePanel.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                switch (e.getKeyCode()) {
+                    case KeyEvent.VK_F3 -> gamePanel.togglePerformanceOverlay();
+                    case KeyEvent.VK_LEFT -> gameLoop.submit(() -> player.seek(player.getTick() - SEEK_TICKS));
+                    case KeyEvent.VK_RIGHT -> gameLoop.submit(() -> player.seek(player.getTick() + SEEK_TICKS));
+                    case KeyEvent.VK_HOME -> gameLoop.submit(() -> player.seek(0));
+                    default -> {
+                    }
+                }
+            }
+        });
+        renderTimer = new Timer(1000 / GameConfig.RENDER_FPS, e -> gamePanel.update());
+    }
+
+    /**
+     * Abre la ventana y empieza a reproducir. Desde el hilo de Swing.
+     */
+    public void start() {
+        mainFrame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                stop();
+            }
+        });
+        mainFrame.showPanel(gamePanel);
+        mainFrame.setVisible(true);
+        gameLoop.start();
+        renderTimer.start();
+    }
+
+    private void stop() {
+        renderTimer.stop();
+        gameLoop.stop();
+        gamePanel.update();
+    }
+
+    public static void main(String[] args) {
+        File file = null;
+        double speed = 1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--replay":
+                        file = new File(args[++i]);
+                        break;
+                    case "--speed":
+                        speed = Double.parseDouble(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+            if (file == null) {
+                throw new IllegalArgumentException("Falta --replay");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Argumentos inválidos: " + e.getMessage());
+            System.err.println("Uso: --replay ARCHIVO [--speed X]");
+            System.exit(2);
+            return;
+        }
+
+        Replay replay;
+        try {
+            replay = new PersistenceService().loadReplay(file);
+        } catch (IOException e) {
+            System.err.println("No se pudo leer la repetición: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        double chosenSpeed = speed;
+        SwingUtilities.invokeLater(() -> new ReplayViewer(replay, chosenSpeed).start());
+    }
+}
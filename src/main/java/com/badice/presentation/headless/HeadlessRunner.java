@@ -0,0 +1,389 @@
+package com.badice.presentation.headless;
+
+import com.badice.domain.config.GameConfig;
+import com.badice.domain.entities.Player;
+import com.badice.domain.enums.BotProfile;
+import com.badice.domain.enums.GameMode;
+import com.badice.domain.factories.BotStrategyFactory;
+import com.badice.domain.services.GameEngine;
+import com.badice.domain.models.Replay;
+import com.badice.domain.services.LevelCache;
+import com.badice.domain.services.PersistenceService;
+import com.badice.domain.services.ReplayPlayer;
+import com.badice.domain.services.ReplayRecorder;
+import com.badice.domain.states.GameOverState;
+import com.badice.domain.states.LevelCompleteState;
+import com.badice.domain.states.PlayingState;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Ejecuta partidas máquina contra máquina sin ventana, tan rápido como
+ * permita la CPU, para evaluar estrategias y el equilibrio de los niveles.
+ * <p>
+ * Uso: {@code java com.badice.Main --headless [--level N] [--bot1 PERFIL]
+ * [--bot2 PERFIL] [--games N] [--max-ticks N] [--seed N]}, con PERFIL en
+ * {@code HUNGRY}, {@code FEARFUL} o {@code EXPERT}. Cada partida imprime su
+ * semilla: la primera usa la de {@code --seed} y las siguientes se derivan de
+ * ella, así que {@code --seed} con la de una partida la repite igual. Con
+ * {@code --record ARCHIVO} se guarda la repetición de la última partida, con
+ * un fotograma clave cada {@code --keyframes N} ticks, y con
+ * {@code --replay ARCHIVO} se vuelve a simular una repetición (ver
+ * {@link Replay}) y se mide cuánto tarda, o con {@code --seek TICK} cuánto
+ * tarda en saltar a un tick. Con {@code --tournament}
+ * se juega un torneo (ver {@link TournamentRunner}).
+ */
+public final class HeadlessRunner {
+    // Ticks por llamada a step(): entre bloque y bloque se comprueba el tope
+    private static final int STEP_CHUNK = 1000;
+    private static final long DEFAULT_MAX_TICKS = 100_000;
+
+    /**
+     * Cómo terminó una partida.
+     */
+    public enum Outcome {
+        VICTORY("VICTORIA"),
+        DEFEAT("DERROTA"),
+        TIME_UP("TIEMPO AGOTADO"),
+        UNFINISHED("SIN TERMINAR");
+
+        private final String label;
+
+        Outcome(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Resultado de una partida.
+     */
+    public static final class GameResult {
+        private final Outcome outcome;
+        private final long ticks;
+        private final long nanos;
+        private final int score;
+        private final int fruitsCollected;
+        private final int totalFruits;
+        private final int player1Score;
+        private final int player2Score;
+        private final long seed;
+
+        public GameResult(Outcome outcome, long ticks, long nanos, int score, int fruitsCollected,
+                int totalFruits, int player1Score, int player2Score, long seed) {
+            this.outcome = outcome;
+            this.ticks = ticks;
+            this.nanos = nanos;
+            this.score = score;
+            this.fruitsCollected = fruitsCollected;
+            this.totalFruits = totalFruits;
+            this.player1Score = player1Score;
+            this.player2Score = player2Score;
+            this.seed = seed;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+
+        /** Tiempo de CPU real que tardó la simulación. */
+        public long getNanos() {
+            return nanos;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public int getFruitsCollected() {
+            return fruitsCollected;
+        }
+
+        public int getTotalFruits() {
+            return totalFruits;
+        }
+
+        /** Puntos propios del bot 1 (frutas que recogió). */
+        public int getPlayer1Score() {
+            return player1Score;
+        }
+
+        public int getPlayer2Score() {
+            return player2Score;
+        }
+
+        /** Semilla con la que se jugó; con ella la partida se repite igual. */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Bot con más puntos propios (1 o 2), o 0 si empatan.
+         */
+        public int getWinner() {
+            return player1Score > player2Score ? 1 : player1Score < player2Score ? 2 : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s en %d ticks (puntos %d = %d + %d, frutas %d/%d, semilla %d)",
+                    outcome.getLabel(), ticks, score, player1Score, player2Score, fruitsCollected, totalFruits,
+                    seed);
+        }
+    }
+
+    private HeadlessRunner() {
+    }
+
+    /**
+     * Juega una partida completa de un nivel en modo máquina contra máquina.
+     *
+     * @param maxTicks tope de ticks; al alcanzarlo la partida queda
+     *                 {@link Outcome#UNFINISHED}
+     */
+    public static GameResult play(int level, BotProfile bot1, BotProfile bot2, long maxTicks) {
+        return play(new LevelCache(), level, bot1, bot2, maxTicks);
+    }
+
+    /**
+     * Igual que {@link #play(int, BotProfile, BotProfile, long)}, leyendo el
+     * nivel de una caché que pueden compartir varias partidas.
+     */
+    public static GameResult play(LevelCache levels, int level, BotProfile bot1, BotProfile bot2,
+            long maxTicks) {
+        return play(levels, level, bot1, bot2, maxTicks, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Juega una partida con una semilla dada: dos llamadas con los mismos
+     * argumentos dan el mismo resultado.
+     */
+    public static GameResult play(LevelCache levels, int level, BotProfile bot1, BotProfile bot2,
+            long maxTicks, long seed) {
+        return play(levels, level, bot1, bot2, maxTicks, seed, null, 0);
+    }
+
+    // Con record, guarda además la repetición de la partida en ese archivo
+    private static GameResult play(LevelCache levels, int level, BotProfile bot1, BotProfile bot2,
+            long maxTicks, long seed, File record, int keyframeInterval) {
+        GameEngine engine = new GameEngine(levels, seed);
+        engine.setQuiet(true); // Sin mensajes por partida: varias pueden ir en paralelo
+        engine.setBot1Strategy(BotStrategyFactory.create(bot1));
+        engine.setBot2Strategy(BotStrategyFactory.create(bot2));
+        if (record != null) {
+            ReplayRecorder recorder = new ReplayRecorder(keyframeInterval);
+            recorder.setBotProfiles(bot1, bot2);
+            engine.setReplayRecorder(recorder);
+        }
+        engine.startLevel(level, GameMode.MVM);
+        engine.changeState(new PlayingState());
+
+        long start = System.nanoTime();
+        long ticks = 0;
+        while (ticks < maxTicks) {
+            int executed = engine.step((int) Math.min(STEP_CHUNK, maxTicks - ticks));
+            ticks += executed;
+            if (executed == 0 || !engine.getStateManager().isInState(PlayingState.class)) {
+                break;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+
+        if (record != null) {
+            try {
+                new PersistenceService().saveReplay(engine.getReplay(), record);
+            } catch (IOException e) {
+                System.err.println("No se pudo guardar la repetición: " + e.getMessage());
+            }
+        }
+        return resultOf(engine, ticks, nanos, seed);
+    }
+
+    /**
+     * Vuelve a simular una repetición de principio a fin, sin esperas. La
+     * semilla del resultado es la del nivel grabado.
+     */
+    public static GameResult replay(Replay replay, LevelCache levels) {
+        ReplayPlayer player = new ReplayPlayer(replay, levels);
+        long start = System.nanoTime();
+        long ticks = player.playToEnd();
+        long nanos = System.nanoTime() - start;
+        return resultOf(player.getEngine(), ticks, nanos, replay.getSeed());
+    }
+
+    /**
+     * Salta a un tick de una repetición (ver {@link ReplayPlayer#seek(long)}).
+     * La duración del resultado es la del salto y sus ticks, los del tick
+     * alcanzado.
+     */
+    public static GameResult seek(Replay replay, LevelCache levels, long tick) {
+        ReplayPlayer player = new ReplayPlayer(replay, levels);
+        long start = System.nanoTime();
+        player.seek(tick);
+        long nanos = System.nanoTime() - start;
+        return resultOf(player.getEngine(), player.getTick(), nanos, replay.getSeed());
+    }
+
+    private static GameResult resultOf(GameEngine engine, long ticks, long nanos, long seed) {
+        List<Player> players = engine.getCurrentMap().getPlayers();
+        return new GameResult(outcomeOf(engine), ticks, nanos,
+                engine.getScoreService().getCurrentScore(),
+                engine.getScoreService().getFruitsCollected(),
+                engine.getScoreService().getTotalFruits(),
+                players.size() > 0 ? players.get(0).getScore() : 0,
+                players.size() > 1 ? players.get(1).getScore() : 0,
+                seed);
+    }
+
+    private static Outcome outcomeOf(GameEngine engine) {
+        if (engine.getStateManager().isInState(LevelCompleteState.class)) {
+            return Outcome.VICTORY;
+        }
+        if (engine.getStateManager().isInState(GameOverState.class)) {
+            return engine.getTimeRemaining() == 0 ? Outcome.TIME_UP : Outcome.DEFEAT;
+        }
+        return Outcome.UNFINISHED;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (Arrays.asList(args).contains("--tournament")) {
+            TournamentRunner.main(args);
+            return;
+        }
+        System.setProperty("java.awt.headless", "true");
+
+        int level = 1;
+        BotProfile bot1 = BotProfile.HUNGRY;
+        BotProfile bot2 = BotProfile.HUNGRY;
+        int games = 1;
+        long maxTicks = DEFAULT_MAX_TICKS;
+        long seed = new SplittableRandom().nextLong();
+        File record = null;
+        int keyframeInterval = ReplayRecorder.DEFAULT_KEYFRAME_INTERVAL;
+        File replay = null;
+        long seekTick = -1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--headless":
+                        break;
+                    case "--level":
+                        level = Integer.parseInt(args[++i]);
+                        break;
+                    case "--bot1":
+                        bot1 = BotProfile.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                        break;
+                    case "--bot2":
+                        bot2 = BotProfile.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                        break;
+                    case "--games":
+                        games = Integer.parseInt(args[++i]);
+                        break;
+                    case "--max-ticks":
+                        maxTicks = Long.parseLong(args[++i]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--record":
+                        record = new File(args[++i]);
+                        break;
+                    case "--keyframes":
+                        keyframeInterval = Integer.parseInt(args[++i]);
+                        if (keyframeInterval < 0) {
+                            throw new IllegalArgumentException("--keyframes no puede ser negativo");
+                        }
+                        break;
+                    case "--replay":
+                        replay = new File(args[++i]);
+                        break;
+                    case "--seek":
+                        seekTick = Long.parseLong(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Argumentos inválidos: " + e.getMessage());
+            System.err.println("Uso: --headless [--level N] [--bot1 PERFIL] [--bot2 PERFIL]"
+                    + " [--games N] [--max-ticks N] [--seed N] [--record ARCHIVO [--keyframes N]]");
+            System.err.println("     --headless --replay ARCHIVO [--seek TICK]");
+            System.exit(2);
+            return;
+        }
+
+        LevelCache levels = new LevelCache();
+        if (replay != null) {
+            try {
+                Replay loaded = new PersistenceService().loadReplay(replay);
+                System.out.printf(Locale.ROOT,
+                        "Repetición: nivel %d, %s, %d ticks, %d entradas, %d fotogramas clave, %d bytes%n",
+                        loaded.getLevel(), loaded.getMode(), loaded.getTicks(), loaded.getEventCount(),
+                        loaded.getKeyframeCount(), replay.length());
+                if (seekTick >= 0) {
+                    GameResult result = seek(loaded, levels, seekTick);
+                    System.out.printf(Locale.ROOT, "Salto al tick %d en %.2f ms: %s%n",
+                            result.getTicks(), result.getNanos() / 1e6, result);
+                    return;
+                }
+                GameResult result = replay(loaded, levels);
+                System.out.println("Reproducida: " + result);
+                System.out.println(summarize(List.of(result)));
+            } catch (IOException e) {
+                System.err.println("No se pudo leer la repetición: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<GameResult> results = new ArrayList<>();
+        for (int game = 1; game <= games; game++) {
+            long gameSeed = game == 1 ? seed : seeds.nextLong();
+            GameResult result = play(levels, level, bot1, bot2, maxTicks, gameSeed,
+                    game == games ? record : null, keyframeInterval);
+            results.add(result);
+            System.out.println("Partida " + game + ": " + result);
+        }
+        System.out.println(summarize(results));
+    }
+
+    /**
+     * Resumen de un conjunto de partidas: resultados y ticks por segundo.
+     */
+    public static String summarize(List<GameResult> results) {
+        int[] outcomes = new int[Outcome.values().length];
+        long ticks = 0;
+        long nanos = 0;
+        for (GameResult result : results) {
+            outcomes[result.getOutcome().ordinal()]++;
+            ticks += result.getTicks();
+            nanos += result.getNanos();
+        }
+        double seconds = nanos / 1e9;
+        double ticksPerSecond = seconds > 0 ? ticks / seconds : 0;
+        double realTime = ticksPerSecond * GameConfig.GAME_TICK_RATE / 1000.0;
+
+        StringBuilder summary = new StringBuilder("Resumen: ").append(results.size()).append(" partidas");
+        for (Outcome outcome : Outcome.values()) {
+            summary.append(", ").append(outcome.getLabel()).append(' ').append(outcomes[outcome.ordinal()]);
+        }
+        summary.append(String.format(Locale.ROOT, "; %d ticks en %.2f s (%.0f ticks/s, x%.0f tiempo real)",
+                ticks, seconds, ticksPerSecond, realTime));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,264 @@
+package com.badice.presentation.headless;
+
+import com.badice.domain.enums.BotProfile;
+import com.badice.domain.services.LevelCache;
+import com.badice.presentation.headless.HeadlessRunner.GameResult;
+import com.badice.presentation.headless.HeadlessRunner.Outcome;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Torneo de bots sin ventana: juega todos los emparejamientos de perfiles
+ * ({@link BotProfile}, en ambos puestos) en todos los niveles, varias rondas,
+ * con una partida independiente por tarea en un {@link ForkJoinPool} que usa
+ * todos los núcleos. Cada partida tiene su propio motor; no se comparte estado
+ * mutable entre ellas.
+ * <p>
+ * Las semillas de las partidas se derivan de la del torneo, de modo que un
+ * torneo con la misma semilla da los mismos resultados sea cual sea el número
+ * de hilos.
+ * <p>
+ * Uso: {@code java com.badice.Main --headless --tournament [--rounds N]
+ * [--threads N] [--max-ticks N] [--seed N]}.
+ */
+public final class TournamentRunner {
+    private static final int DEFAULT_ROUNDS = 10;
+    private static final long DEFAULT_MAX_TICKS = 100_000;
+
+    /**
+     * Una partida del torneo.
+     */
+    public static final class Match {
+        private final int level;
+        private final BotProfile bot1;
+        private final BotProfile bot2;
+        private final long seed;
+
+        public Match(int level, BotProfile bot1, BotProfile bot2, long seed) {
+            this.level = level;
+            this.bot1 = bot1;
+            this.bot2 = bot2;
+            this.seed = seed;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public BotProfile getBot1() {
+            return bot1;
+        }
+
+        public BotProfile getBot2() {
+            return bot2;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+    }
+
+    /**
+     * Resultados acumulados de un perfil.
+     */
+    public static final class ProfileStats {
+        private int games;
+        private int wins;
+        private int draws;
+        private int levelsCompleted;
+        private long score;
+        private long ticksToFinish; // solo partidas con el nivel completado
+
+        void add(int ownScore, int result, Outcome outcome, long ticks) {
+            games++;
+            score += ownScore;
+            if (result > 0) {
+                wins++;
+            } else if (result == 0) {
+                draws++;
+            }
+            if (outcome == Outcome.VICTORY) {
+                levelsCompleted++;
+                ticksToFinish += ticks;
+            }
+        }
+
+        public int getGames() {
+            return games;
+        }
+
+        public int getWins() {
+            return wins;
+        }
+
+        public int getDraws() {
+            return draws;
+        }
+
+        public double getWinRate() {
+            return games > 0 ? (double) wins / games : 0;
+        }
+
+        public double getAverageScore() {
+            return games > 0 ? (double) score / games : 0;
+        }
+
+        /** Fracción de partidas en que se completó el nivel. */
+        public double getCompletionRate() {
+            return games > 0 ? (double) levelsCompleted / games : 0;
+        }
+
+        /** Ticks medios hasta completar el nivel, o 0 si nunca se completó. */
+        public double getAverageTicksToFinish() {
+            return levelsCompleted > 0 ? (double) ticksToFinish / levelsCompleted : 0;
+        }
+    }
+
+    private TournamentRunner() {
+    }
+
+    /**
+     * Todos los emparejamientos (con repetición y en ambos puestos) de todos
+     * los perfiles en todos los niveles, {@code rounds} veces, con semillas al
+     * azar.
+     */
+    public static List<Match> schedule(List<Integer> levels, int rounds) {
+        return schedule(levels, rounds, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Igual que {@link #schedule(List, int)}, derivando la semilla de cada
+     * partida de {@code seed}.
+     */
+    public static List<Match> schedule(List<Integer> levels, int rounds, long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Match> matches = new ArrayList<>();
+        for (int round = 0; round < rounds; round++) {
+            for (int level : levels) {
+                for (BotProfile bot1 : BotProfile.values()) {
+                    for (BotProfile bot2 : BotProfile.values()) {
+                        matches.add(new Match(level, bot1, bot2, seeds.nextLong()));
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Juega las partidas en paralelo y devuelve sus resultados en el mismo
+     * orden.
+     */
+    public static List<GameResult> play(List<Match> matches, int threads, long maxTicks)
+            throws InterruptedException {
+        LevelCache levels = new LevelCache(); // Cada nivel se lee una vez para todo el torneo
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Callable<GameResult>> tasks = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                tasks.add(() -> HeadlessRunner.play(levels, match.getLevel(), match.getBot1(), match.getBot2(),
+                        maxTicks, match.getSeed()));
+            }
+            List<GameResult> results = new ArrayList<>(matches.size());
+            for (Future<GameResult> future : pool.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Falló una partida del torneo", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Acumula los resultados por perfil; cada partida cuenta para los dos bots.
+     */
+    public static Map<BotProfile, ProfileStats> aggregate(List<Match> matches, List<GameResult> results) {
+        Map<BotProfile, ProfileStats> stats = new EnumMap<>(BotProfile.class);
+        for (BotProfile profile : BotProfile.values()) {
+            stats.put(profile, new ProfileStats());
+        }
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            GameResult result = results.get(i);
+            int winner = result.getWinner();
+            stats.get(match.getBot1()).add(result.getPlayer1Score(), winner == 0 ? 0 : winner == 1 ? 1 : -1,
+                    result.getOutcome(), result.getTicks());
+            stats.get(match.getBot2()).add(result.getPlayer2Score(), winner == 0 ? 0 : winner == 2 ? 1 : -1,
+                    result.getOutcome(), result.getTicks());
+        }
+        return stats;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+
+        int rounds = DEFAULT_ROUNDS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long maxTicks = DEFAULT_MAX_TICKS;
+        long seed = new SplittableRandom().nextLong();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--headless":
+                    case "--tournament":
+                        break;
+                    case "--rounds":
+                        rounds = Integer.parseInt(args[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--max-ticks":
+                        maxTicks = Long.parseLong(args[++i]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Argumentos inválidos: " + e.getMessage());
+            System.err.println("Uso: --headless --tournament [--rounds N] [--threads N] [--max-ticks N]"
+                    + " [--seed N]");
+            System.exit(2);
+            return;
+        }
+
+        List<Integer> levels = new LevelCache().getAvailableLevels();
+        List<Match> matches = schedule(levels, rounds, seed);
+        PrintStream out = System.out;
+        out.printf(Locale.ROOT, "Torneo: %d partidas (%d niveles, %d perfiles, %d rondas) en %d hilos, semilla %d%n",
+                matches.size(), levels.size(), BotProfile.values().length, rounds, threads, seed);
+
+        long start = System.nanoTime();
+        List<GameResult> results = play(matches, threads, maxTicks);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        out.printf(Locale.ROOT, "%-8s %7s %9s %9s %11s %12s%n",
+                "Perfil", "Partidas", "Victorias", "Media pts", "Completados", "Ticks a fin");
+        for (Map.Entry<BotProfile, ProfileStats> entry : aggregate(matches, results).entrySet()) {
+            ProfileStats stats = entry.getValue();
+            out.printf(Locale.ROOT, "%-8s %8d %8.1f%% %9.1f %10.1f%% %12.0f%n",
+                    entry.getKey(), stats.getGames(), stats.getWinRate() * 100, stats.getAverageScore(),
+                    stats.getCompletionRate() * 100, stats.getAverageTicksToFinish());
+        }
+        out.println(HeadlessRunner.summarize(results));
+        out.printf(Locale.ROOT, "%.2f s de reloj, %.0f partidas/min%n", seconds, results.size() / seconds * 60);
+    }
+}
@@ -1,16 +1,17 @@
 package com.badice.presentation.view;
 
-import com.badice.domain.entities.*;
-import com.badice.domain.interfaces.EntityVisitor;
+import com.badice.domain.entities.Direction;
+import com.badice.domain.entities.TerrainGrid;
+import com.badice.domain.models.FrameSnapshot.Sprite;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
 /**
- * Renderiza entidades específicas del juego.
- * Implementa EntityVisitor para renderizado polimórfico sin instanceof.
+ * Renderiza entidades específicas del juego a partir de la fotografía del tick
+ * (ver {@link com.badice.domain.models.FrameSnapshot}), nunca del estado vivo.
  */
-public class EntityRenderer implements EntityVisitor {
+public class EntityRenderer {
     private final ResourceManager resourceManager;
     private int cellSize;
     
@@ -32,27 +33,32 @@ public class EntityRenderer implements EntityVisitor {
     }
 
     /**
-     * Renderiza una entidad en las coordenadas especificadas.
+     * Renderiza una entidad de la fotografía en su celda.
      */
-    public void renderEntity(Graphics2D g, GameEntity entity) {
-        if (entity == null || !entity.isActive()) {
-            return;
-        }
-
+    public void renderSprite(Graphics2D g, Sprite sprite) {
         this.currentGraphics = g;
-        Position pos = entity.getPosition();
-        this.currentX = pos.getX() * cellSize;
-        this.currentY = pos.getY() * cellSize;
-
-        // Despachar al método visit correspondiente
-        entity.accept(this);
+        this.currentX = sprite.getX() * cellSize;
+        this.currentY = sprite.getY() * cellSize;
+
+        switch (sprite.getKind()) {
+            case PLAYER -> renderPlayer(sprite);
+            case BASIC_ENEMY -> renderBasicEnemy();
+            case TROLL -> renderTroll(sprite);
+            case POT -> renderPot();
+            case SQUID -> renderSquid(sprite);
+            case NARVAL -> renderNarval(sprite);
+            case FRUIT -> renderCommonFruit(sprite);
+            case CACTUS -> renderCactus(sprite);
+            case ICE -> renderIce(sprite);
+            case CAMPFIRE -> renderCampfire(sprite);
+            case HOT_TILE -> renderHotTile();
+            case BLOCK -> drawBlock(currentGraphics, sprite.getVariant(), currentX, currentY);
+        }
     }
 
-
-    @Override
-    public void visit(Player player) {
-        String color = player.getPlayerColor();
-        String direction = player.getCurrentDirection().toString().toLowerCase();
+    private void renderPlayer(Sprite player) {
+        String color = player.getVariant();
+        String direction = player.getDirection().toString().toLowerCase();
         BufferedImage sprite = resourceManager.getPlayerSprite(color, direction);
 
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
@@ -63,9 +69,8 @@ public class EntityRenderer implements EntityVisitor {
         }
     }
 
-    @Override
-    public void visit(TrollEnemy enemy) {
-        Direction dir = enemy.getCurrentDirection();
+    private void renderTroll(Sprite enemy) {
+        Direction dir = enemy.getDirection();
         BufferedImage sprite = switch (dir) {
             case RIGHT -> resourceManager.loadImage("sprites/enemies/TrollCaminandoDerecha.png");
             case LEFT -> resourceManager.loadImage("sprites/enemies/TrollCaminandoIzquierda.png");
@@ -75,25 +80,23 @@ public class EntityRenderer implements EntityVisitor {
         };
 
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
-            renderGenericEnemyFallback(enemy, new Color(139, 69, 19));
+            renderGenericEnemyFallback(new Color(139, 69, 19));
         }
     }
 
-    @Override
-    public void visit(PotEnemy enemy) {
+    private void renderPot() {
         BufferedImage sprite = resourceManager.loadImage("sprites/enemies/maseta.png");
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
-            renderGenericEnemyFallback(enemy, new Color(34, 139, 34));
+            renderGenericEnemyFallback(new Color(34, 139, 34));
         }
     }
 
-    @Override
-    public void visit(SquidEnemy enemy) {
+    private void renderSquid(Sprite enemy) {
         BufferedImage sprite;
-        if (enemy.isBreakingIce()) {
+        if (enemy.getFlag()) { // rompiendo hielo
             sprite = resourceManager.loadImage("sprites/enemies/CalamarRompiendoBloques.png");
         } else {
-            Direction dir = enemy.getCurrentDirection();
+            Direction dir = enemy.getDirection();
             sprite = switch (dir) {
                 case RIGHT -> resourceManager.loadImage("sprites/enemies/CalamarDerecha.png");
                 case LEFT -> resourceManager.loadImage("sprites/enemies/CalamarIzquierda.png");
@@ -104,19 +107,19 @@ public class EntityRenderer implements EntityVisitor {
         }
 
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
-            renderGenericEnemyFallback(enemy, new Color(255, 140, 0));
+            renderGenericEnemyFallback(new Color(255, 140, 0));
         }
     }
 
-    @Override
-    public void visit(NarvalEnemy enemy) {
+    private void renderNarval(Sprite enemy) {
         BufferedImage sprite = resourceManager.loadImage("sprites/enemies/NarvalHD.png");
+        boolean charging = enemy.getFlag();
         
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
-            Color color = enemy.isCharging() ? new Color(255, 0, 0) : new Color(70, 130, 180);
-            renderGenericEnemyFallback(enemy, color);
+            Color color = charging ? new Color(255, 0, 0) : new Color(70, 130, 180);
+            renderGenericEnemyFallback(color);
             
-            if (enemy.isCharging()) {
+            if (charging) {
                 currentGraphics.setColor(Color.YELLOW);
                 currentGraphics.setStroke(new BasicStroke(3));
                 int margin = cellSize / 6;
@@ -126,13 +129,12 @@ public class EntityRenderer implements EntityVisitor {
         }
     }
 
-    @Override
-    public void visit(BasicEnemy enemy) {
+    private void renderBasicEnemy() {
         // Fallback para enemigo básico genérico
-        renderGenericEnemyFallback(enemy, Color.RED);
+        renderGenericEnemyFallback(Color.RED);
     }
     
-    private void renderGenericEnemyFallback(Enemy enemy, Color color) {
+    private void renderGenericEnemyFallback(Color color) {
         currentGraphics.setColor(color);
         int margin = cellSize / 6;
         currentGraphics.fillOval(currentX + margin, currentY + margin, cellSize - 2 * margin, cellSize - 2 * margin);
@@ -142,15 +144,13 @@ public class EntityRenderer implements EntityVisitor {
 
     // --- Fruits ---
 
-    private void renderCommonFruit(Fruit fruit) {
-        if (fruit.isCollected()) return;
-
-        BufferedImage sprite = resourceManager.getFruitSprite(fruit.getFruitType());
+    private void renderCommonFruit(Sprite fruit) {
+        BufferedImage sprite = resourceManager.getFruitSprite(fruit.getVariant());
 
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
             Color mainColor = Color.YELLOW;
             Color borderColor = Color.ORANGE;
-            String type = fruit.getFruitType().toLowerCase();
+            String type = fruit.getVariant().toLowerCase();
 
             switch (type) {
                 case "banana":
@@ -187,18 +187,11 @@ public class EntityRenderer implements EntityVisitor {
         }
     }
 
-    @Override
-    public void visit(BasicFruit fruit) { renderCommonFruit(fruit); }
-    @Override
-    public void visit(CherryFruit fruit) { renderCommonFruit(fruit); }
-    @Override
-    public void visit(PineappleFruit fruit) { renderCommonFruit(fruit); }
-    @Override
-    public void visit(CactusFruit fruit) { 
+    private void renderCactus(Sprite fruit) { 
         renderCommonFruit(fruit);
         
         // Si está en modo peligroso, agregar indicación visual
-        if (fruit.isDangerous() && !fruit.isCollected()) {
+        if (fruit.getFlag()) {
             // Dibujar un círculo negro semi-transparente con puas
             currentGraphics.setColor(new Color(0, 0, 0, 150));
             int spikeRadius = cellSize / 2 - 6;
@@ -233,10 +226,9 @@ public class EntityRenderer implements EntityVisitor {
 
     // --- Blocks ---
 
-    @Override
-    public void visit(IceBlock ice) {
+    private void renderIce(Sprite ice) {
         BufferedImage sprite = null;
-        switch (ice.getState()) {
+        switch (ice.getIceState()) {
             case INTACT:
                 sprite = resourceManager.loadImage("backgrounds/IceBlock1.png");
                 break;
@@ -257,22 +249,21 @@ public class EntityRenderer implements EntityVisitor {
         }
     }
 
-    @Override
-    public void visit(Campfire campfire) {
-        BufferedImage sprite = campfire.isLit() 
+    private void renderCampfire(Sprite campfire) {
+        boolean lit = campfire.getFlag();
+        BufferedImage sprite = lit 
             ? resourceManager.loadImage("sprites/obstacles/campfireON.png") 
             : resourceManager.loadImage("sprites/obstacles/campfireOF.png");
 
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
-            currentGraphics.setColor(campfire.isLit() ? new Color(255, 69, 0) : new Color(128, 128, 128));
+            currentGraphics.setColor(lit ? new Color(255, 69, 0) : new Color(128, 128, 128));
             currentGraphics.fillRect(currentX, currentY, cellSize, cellSize);
             currentGraphics.setColor(Color.BLACK);
             currentGraphics.drawRect(currentX, currentY, cellSize, cellSize);
         }
     }
 
-    @Override
-    public void visit(HotTile hotTile) {
+    private void renderHotTile() {
         BufferedImage sprite = resourceManager.loadImage("sprites/obstacles/Baldosa_caliente.png");
         if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
              currentGraphics.setColor(new Color(255, 140, 0));
@@ -282,20 +273,32 @@ public class EntityRenderer implements EntityVisitor {
         }
     }
 
-    @Override
-    public void visit(Block block) {
-        // Generic block (Wall, etc.)
-        BufferedImage sprite = resourceManager.getBlockSprite(block.getBlockType());
-        if (!drawSprite(currentGraphics, sprite, currentX, currentY)) {
-            currentGraphics.setColor(new Color(0, 107, 201));
-            currentGraphics.fillRect(currentX, currentY, cellSize, cellSize);
-            currentGraphics.setColor(Color.BLACK);
-            currentGraphics.drawRect(currentX, currentY, cellSize, cellSize);
+    /**
+     * Renderiza el terreno estático (muros) del mapa.
+     */
+    public void renderTerrain(Graphics2D g, TerrainGrid terrain) {
+        for (int y = 0; y < terrain.getHeight(); y++) {
+            for (int x = 0; x < terrain.getWidth(); x++) {
+                String blockType = TerrainGrid.getBlockType(terrain.getTile(x, y));
+                if (blockType == null) {
+                    continue;
+                }
+                drawBlock(g, blockType, x * cellSize, y * cellSize);
+            }
         }
     }
 
     // --- Helpers ---
 
+    private void drawBlock(Graphics2D g, String blockType, int x, int y) {
+        if (!drawSprite(g, resourceManager.getBlockSprite(blockType), x, y)) {
+            g.setColor(new Color(0, 107, 201));
+            g.fillRect(x, y, cellSize, cellSize);
+            g.setColor(Color.BLACK);
+            g.drawRect(x, y, cellSize, cellSize);
+        }
+    }
+
     public void renderGrid(Graphics2D g, int width, int height) {
         g.setColor(new Color(255, 255, 255, 30));
         for (int x = 0; x <= width; x++) {
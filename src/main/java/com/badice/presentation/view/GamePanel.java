@@ -1,28 +1,34 @@
 package com.badice.presentation.view;
 
-import com.badice.domain.entities.GameEntity;
-import com.badice.domain.entities.GameMap;
-import com.badice.domain.entities.Player;
-import com.badice.domain.services.GameEngine;
-import com.badice.domain.states.PausedState;
+import com.badice.domain.jfr.FrameEvent;
+import com.badice.domain.models.FrameSnapshot;
+import com.badice.domain.services.GameEngineMonitor;
+import com.badice.domain.services.GameLoop;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
 /**
- * Panel principal donde se dibuja el juego.
+ * Panel principal donde se dibuja el juego. Solo dibuja la última fotografía
+ * publicada por el hilo de simulación; nunca lee el mapa vivo.
  */
 public class GamePanel extends JPanel {
-    private final GameEngine gameEngine;
+    private static final String PAUSED_STATE = "PAUSED";
+
+    private final GameLoop gameLoop;
+    private final GameEngineMonitor monitor;
     private final EntityRenderer entityRenderer;
     private final HUDRenderer hudRenderer;
+    private final PerformanceOverlay performanceOverlay;
     private final BufferedImage backgroundImage;
 
-    public GamePanel(GameEngine gameEngine) {
-        this.gameEngine = gameEngine;
+    public GamePanel(GameLoop gameLoop, GameEngineMonitor monitor) {
+        this.gameLoop = gameLoop;
+        this.monitor = monitor;
         this.entityRenderer = new EntityRenderer(32); // 32px por celda
         this.hudRenderer = new HUDRenderer();
+        this.performanceOverlay = new PerformanceOverlay(monitor);
 
         // Cargar background
         this.backgroundImage = ResourceManager.getInstance().getBackground("game_background");
@@ -34,12 +40,15 @@ public class GamePanel extends JPanel {
 
     @Override
     protected void paintComponent(Graphics g) {
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        performanceOverlay.onFrame();
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        GameMap map = gameEngine.getCurrentMap();
-        if (map == null) {
+        FrameSnapshot frame = gameLoop.getLatestFrame();
+        if (frame == null || !frame.hasMap()) {
             renderNoMapMessage(g2d);
             return;
         }
@@ -52,8 +61,8 @@ public class GamePanel extends JPanel {
         int availableHeight = getHeight() - hudHeight;
         
         // Calcular el tamaño de celda óptimo que llena el espacio disponible
-        int cellSizeByWidth = availableWidth / map.getWidth();
-        int cellSizeByHeight = availableHeight / map.getHeight();
+        int cellSizeByWidth = availableWidth / frame.getMapWidth();
+        int cellSizeByHeight = availableHeight / frame.getMapHeight();
         
         // Usar el menor valor para que todo el grid quepa
         int cellSize = Math.min(cellSizeByWidth, cellSizeByHeight);
@@ -65,8 +74,8 @@ public class GamePanel extends JPanel {
         entityRenderer.setCellSize(cellSize);
         
         // Calcular dimensiones del mapa en píxeles
-        int mapPixelWidth = map.getWidth() * cellSize;
-        int mapPixelHeight = map.getHeight() * cellSize;
+        int mapPixelWidth = frame.getMapWidth() * cellSize;
+        int mapPixelHeight = frame.getMapHeight() * cellSize;
         
         // Calcular offset para centrar el grid
         int horizontalOffset = (getWidth() - mapPixelWidth) / 2;
@@ -82,48 +91,41 @@ public class GamePanel extends JPanel {
         }
 
         // Renderizar fondo/grid
-        entityRenderer.renderGrid(g2d, map.getWidth(), map.getHeight());
-
-        // Renderizar entidades por capas para asegurar visibilidad correcta, frutas al
-        // final
-
-        // 1. Bloques estáticos y paredes (Fondo)
-        for (GameEntity entity : map.getBlocks()) {
-            entityRenderer.renderEntity(g2d, entity);
-        }
-
-        // 2. Bloques de hielo
-        for (GameEntity entity : map.getIceBlocks()) {
-            entityRenderer.renderEntity(g2d, entity);
-        }
-
-        // 3. Enemigos
-        for (GameEntity entity : map.getEnemies()) {
-            entityRenderer.renderEntity(g2d, entity);
-        }
-
-        // 4. Jugadores
-        for (GameEntity entity : map.getPlayers()) {
-            entityRenderer.renderEntity(g2d, entity);
-        }
-
-        // 5. Frutas (Frente - para que se vean siempre)
-        for (GameEntity entity : map.getFruits()) {
-            entityRenderer.renderEntity(g2d, entity);
+        entityRenderer.renderGrid(g2d, frame.getMapWidth(), frame.getMapHeight());
+
+        // Renderizar entidades por capas para asegurar visibilidad correcta: la
+        // fotografía ya viene ordenada (bloques, hielo, enemigos, jugadores y
+        // frutas al final), sobre el terreno estático
+        entityRenderer.renderTerrain(g2d, frame.getTerrain());
+        for (FrameSnapshot.Sprite sprite : frame.getSprites()) {
+            entityRenderer.renderSprite(g2d, sprite);
         }
 
         // Volver al origen
         g2d.translate(-horizontalOffset, -verticalOffset);
 
         // Renderizar HUD
-        Player player = gameEngine.getPlayer();
-        long elapsedTime = gameEngine.getElapsedTime();
-        hudRenderer.render(g2d, player, gameEngine.getScoreService(), elapsedTime, getWidth());
+        hudRenderer.render(g2d, frame, getWidth());
 
         // Renderizar overlay de pausa
-        if (gameEngine.getStateManager().isInState(PausedState.class)) {
+        if (PAUSED_STATE.equals(frame.getStateName())) {
             renderPauseOverlay(g2d);
         }
+
+        performanceOverlay.render(g2d, getWidth(), hudHeight);
+        monitor.onFrameRendered();
+        if (event.shouldCommit()) {
+            event.tick = frame.getTick();
+            event.sprites = frame.getSprites().size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Muestra u oculta el panel de rendimiento.
+     */
+    public void togglePerformanceOverlay() {
+        performanceOverlay.toggle();
     }
 
     private void renderNoMapMessage(Graphics2D g) {
@@ -1,7 +1,6 @@
 package com.badice.presentation.view;
 
-import com.badice.domain.entities.Player;
-import com.badice.domain.services.ScoreService;
+import com.badice.domain.models.FrameSnapshot;
 
 import java.awt.*;
 
@@ -20,7 +19,7 @@ public class HUDRenderer {
     /**
      * Renderiza el HUD en la parte superior del panel de juego.
      */
-    public void render(Graphics2D g, Player player, ScoreService scoreService, long elapsedTime, int panelWidth) {
+    public void render(Graphics2D g, FrameSnapshot frame, int panelWidth) {
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // Fondo del HUD
@@ -34,10 +33,10 @@ public class HUDRenderer {
         g.setFont(hudFont);
 
         // Vidas
-        if (player != null) {
+        if (frame.getLives() >= 0) {
             g.setColor(Color.RED);
             int heartX = 10;
-            for (int i = 0; i < player.getLives(); i++) {
+            for (int i = 0; i < frame.getLives(); i++) {
                 drawHeart(g, heartX, 12);
                 heartX += 25;
             }
@@ -45,23 +44,23 @@ public class HUDRenderer {
 
         // Puntuación
         g.setColor(Color.YELLOW);
-        String scoreText = "PUNTOS: " + scoreService.getCurrentScore();
+        String scoreText = "PUNTOS: " + frame.getScore();
         g.drawString(scoreText, panelWidth / 2 - 80, 25);
 
         // Nivel
         g.setColor(Color.GREEN);
-        String levelText = "NIVEL: " + scoreService.getCurrentLevel();
+        String levelText = "NIVEL: " + frame.getLevel();
         g.drawString(levelText, panelWidth - 150, 25);
 
         // Frutas recolectadas
         g.setColor(Color.ORANGE);
-        String fruitsText = scoreService.getFruitsCollected() + "/" + scoreService.getTotalFruits();
+        String fruitsText = frame.getFruitsCollected() + "/" + frame.getTotalFruits();
         g.drawString(fruitsText, panelWidth / 2 + 50, 25);
 
         // Tiempo Restante
         g.setColor(Color.CYAN);
         // Calculamos la cuenta regresiva aquí basándonos en el límite conocido.
-        long remaining = Math.max(0, 3 * 60 * 1000 - elapsedTime);
+        long remaining = Math.max(0, 3 * 60 * 1000 - frame.getElapsedTime());
         
         String timeText = formatTime(remaining);
         // Centrado arriba
@@ -0,0 +1,251 @@
+package com.badice.presentation.view;
+
+import com.badice.domain.services.GameEngineMonitor;
+import com.badice.domain.services.PathFinder;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Panel de rendimiento que se dibuja sobre el juego (F3): gráficas de tiempo
+ * de fotograma, tiempo de tick y ritmo de asignación de memoria, más los
+ * contadores de entidades y el coste de la búsqueda de caminos.
+ * <p>
+ * Las muestras van a anillos y los puntos de las gráficas a arrays reservados
+ * al crearlo; los textos se rehacen solo cuatro veces por segundo. Así el
+ * propio panel apenas asigna memoria ni altera las cifras que enseña.
+ * Oculto, no mide nada.
+ */
+public class PerformanceOverlay {
+    private static final int SAMPLES = 120;
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final int WIDTH = 250;
+    private static final int GRAPH_HEIGHT = 36;
+    private static final int LINE_HEIGHT = 14;
+    private static final int PADDING = 6;
+
+    private static final Color BACKGROUND = new Color(0, 0, 0, 190);
+    private static final Color GRID = new Color(255, 255, 255, 40);
+    private static final Color FRAME_COLOR = new Color(120, 220, 255);
+    private static final Color TICK_COLOR = new Color(255, 200, 80);
+    private static final Color ALLOC_COLOR = new Color(200, 130, 255);
+    private static final Font FONT = new Font("Monospaced", Font.PLAIN, 11);
+    private static final Color[] LINE_COLORS = {
+            FRAME_COLOR, TICK_COLOR, ALLOC_COLOR, Color.WHITE, Color.WHITE, Color.WHITE
+    };
+
+    private final GameEngineMonitor monitor;
+    private final com.sun.management.ThreadMXBean threads; // null si la JVM no mide asignaciones
+
+    private final Graph frameGraph = new Graph(FRAME_COLOR, 20f);
+    private final Graph tickGraph = new Graph(TICK_COLOR, 5f);
+    private final Graph allocGraph = new Graph(ALLOC_COLOR, 1f);
+
+    private boolean visible;
+    private long lastFrameNanos = -1;
+    private long lastTick = -1;
+
+    // Ventana de los textos y de la asignación
+    private long windowStart;
+    private long windowAllocated;
+    private long windowSearches;
+    private long windowExpanded;
+    private final String[] lines = new String[6];
+
+    public PerformanceOverlay(GameEngineMonitor monitor) {
+        this.monitor = monitor;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean extended = bean instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) bean : null;
+        this.threads = extended != null && extended.isThreadAllocatedMemorySupported() ? extended : null;
+        if (threads != null && !threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        java.util.Arrays.fill(lines, "");
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Muestra u oculta el panel. Al mostrarlo se empiezan gráficas nuevas.
+     */
+    public void toggle() {
+        visible = !visible;
+        if (visible) {
+            frameGraph.clear();
+            tickGraph.clear();
+            allocGraph.clear();
+            lastFrameNanos = -1;
+            lastTick = -1;
+            windowStart = System.nanoTime();
+            windowAllocated = allocatedBytes();
+            windowSearches = PathFinder.getSearchCount();
+            windowExpanded = PathFinder.getExpandedNodeCount();
+        }
+    }
+
+    /**
+     * Registra un fotograma. Debe llamarse al empezar a pintar cada uno.
+     */
+    public void onFrame() {
+        if (!visible) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastFrameNanos >= 0) {
+            frameGraph.add((now - lastFrameNanos) / 1e6f);
+        }
+        lastFrameNanos = now;
+
+        long tick = monitor.getTickCount();
+        if (tick != lastTick) {
+            tickGraph.add(monitor.getLastTickNanos() / 1e6f);
+            lastTick = tick;
+        }
+
+        if (now - windowStart >= REFRESH_NANOS) {
+            refresh(now);
+        }
+    }
+
+    private void refresh(long now) {
+        float seconds = (now - windowStart) / 1e9f;
+        long allocated = allocatedBytes();
+        float allocRate = (allocated - windowAllocated) / seconds / (1024 * 1024);
+        allocGraph.add(allocRate);
+
+        long searches = PathFinder.getSearchCount();
+        long expanded = PathFinder.getExpandedNodeCount();
+        long windowCalls = searches - windowSearches;
+        float callsPerSecond = windowCalls / seconds;
+        float nodesPerCall = windowCalls > 0 ? (float) (expanded - windowExpanded) / windowCalls : 0;
+
+        lines[0] = String.format("Fotograma %5.1f ms  máx %5.1f", frameGraph.last(), frameGraph.max());
+        lines[1] = String.format("Tick      %5.2f ms  máx %5.2f", tickGraph.last(), tickGraph.max());
+        lines[2] = threads != null
+                ? String.format("Asignación %6.2f MB/s", allocRate)
+                : "Asignación n/d";
+        lines[3] = String.format("Entidades %d (desp. %d, temp. %d)",
+                monitor.getEntityCount(), monitor.getAwakeEntityCount(), monitor.getScheduledTimerCount());
+        lines[4] = String.format("jug %d enem %d frut %d hielo %d bloq %d",
+                monitor.getPlayerCount(), monitor.getEnemyCount(), monitor.getFruitCount(),
+                monitor.getIceBlockCount(), monitor.getBlockCount());
+        lines[5] = String.format("Caminos %.0f/s, %.0f celdas/búsqueda", callsPerSecond, nodesPerCall);
+
+        windowStart = now;
+        windowAllocated = allocated;
+        windowSearches = searches;
+        windowExpanded = expanded;
+    }
+
+    // Bytes asignados por el hilo de simulación y el de Swing
+    private long allocatedBytes() {
+        if (threads == null) {
+            return 0;
+        }
+        long total = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        long simulation = monitor.getSimulationThreadId();
+        if (simulation >= 0 && simulation != Thread.currentThread().getId()) {
+            total += Math.max(0, threads.getThreadAllocatedBytes(simulation));
+        }
+        return total;
+    }
+
+    /**
+     * Dibuja el panel en la esquina superior derecha, bajo el HUD.
+     */
+    public void render(Graphics2D g, int panelWidth, int top) {
+        if (!visible) {
+            return;
+        }
+        int x = panelWidth - WIDTH - PADDING;
+        int graphsHeight = 3 * (GRAPH_HEIGHT + PADDING);
+        int height = PADDING + graphsHeight + lines.length * LINE_HEIGHT + PADDING;
+
+        g.setColor(BACKGROUND);
+        g.fillRect(x, top, WIDTH, height);
+
+        int graphX = x + PADDING;
+        int graphWidth = WIDTH - 2 * PADDING;
+        int y = top + PADDING;
+        frameGraph.render(g, graphX, y, graphWidth, GRAPH_HEIGHT);
+        y += GRAPH_HEIGHT + PADDING;
+        tickGraph.render(g, graphX, y, graphWidth, GRAPH_HEIGHT);
+        y += GRAPH_HEIGHT + PADDING;
+        allocGraph.render(g, graphX, y, graphWidth, GRAPH_HEIGHT);
+        y += GRAPH_HEIGHT + PADDING;
+
+        g.setFont(FONT);
+        for (int i = 0; i < lines.length; i++) {
+            y += LINE_HEIGHT;
+            g.setColor(LINE_COLORS[i]);
+            g.drawString(lines[i], graphX, y - 3);
+        }
+    }
+
+    /**
+     * Gráfica de las últimas {@link #SAMPLES} muestras sobre un anillo. La
+     * escala vertical se ajusta al máximo visible, sin bajar de {@code floor}.
+     */
+    private static final class Graph {
+        private final Color color;
+        private final float floor;
+        private final float[] values = new float[SAMPLES];
+        private final int[] xs = new int[SAMPLES];
+        private final int[] ys = new int[SAMPLES];
+        private int head; // siguiente posición a escribir
+        private int count;
+
+        Graph(Color color, float floor) {
+            this.color = color;
+            this.floor = floor;
+        }
+
+        void add(float value) {
+            values[head] = value;
+            head = (head + 1) % SAMPLES;
+            if (count < SAMPLES) {
+                count++;
+            }
+        }
+
+        void clear() {
+            head = 0;
+            count = 0;
+        }
+
+        float last() {
+            return count > 0 ? values[(head - 1 + SAMPLES) % SAMPLES] : 0;
+        }
+
+        float max() {
+            float max = 0;
+            for (int i = 0; i < count; i++) {
+                max = Math.max(max, values[i]);
+            }
+            return max;
+        }
+
+        void render(Graphics2D g, int x, int y, int width, int height) {
+            g.setColor(GRID);
+            g.drawRect(x, y, width, height);
+            g.drawLine(x, y + height / 2, x + width, y + height / 2);
+            if (count < 2) {
+                return;
+            }
+            float scale = Math.max(floor, max());
+            int start = (head - count + SAMPLES) % SAMPLES;
+            for (int i = 0; i < count; i++) {
+                float value = values[(start + i) % SAMPLES];
+                xs[i] = x + width - (count - 1 - i) * width / (SAMPLES - 1);
+                ys[i] = y + height - Math.round(Math.min(value, scale) / scale * height);
+            }
+            g.setColor(color);
+            g.drawPolyline(xs, ys, count);
+        }
+    }
+}
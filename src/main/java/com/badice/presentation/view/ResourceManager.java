@@ -8,27 +8,28 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Singleton que gestiona recursos gráficos (sprites/imágenes).
+ * Singleton que gestiona recursos gráficos (sprites/imágenes). Las imágenes
+ * se cargan una vez y se comparten; es seguro usarlo desde varios hilos.
  */
 public class ResourceManager {
-    private static ResourceManager instance;
     private final Map<String, BufferedImage> imageCache;
 
     private ResourceManager() {
         this.imageCache = new HashMap<>();
     }
 
+    private static final class Holder {
+        static final ResourceManager INSTANCE = new ResourceManager();
+    }
+
     public static ResourceManager getInstance() {
-        if (instance == null) {
-            instance = new ResourceManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
      * Carga una imagen desde los recursos.
      */
-    public BufferedImage loadImage(String path) {
+    public synchronized BufferedImage loadImage(String path) {
         if (imageCache.containsKey(path)) {
             return imageCache.get(path);
         }
@@ -30,4 +30,20 @@ class CactusFruitTest {
         cactus.collect();
         assertTrue(cactus.isCollected(), "Should be collected when safe");
     }
+
+    @Test
+    void testCactusTogglesWithGameClock() {
+        GameMap map = new GameMap(5, 5, 32);
+        CactusFruit cactus = new CactusFruit(new Position(1, 1));
+        map.addEntity(cactus);
+
+        cactus.update(); // toma la marca inicial
+        map.getClock().advance(5000 / map.getClock().getTickMillis() - 1);
+        cactus.update();
+        assertFalse(cactus.isDangerous());
+
+        map.getClock().advance();
+        cactus.update();
+        assertTrue(cactus.isDangerous(), "Should toggle after 5s of game time");
+    }
 }
@@ -0,0 +1,255 @@
+package com.badice.domain.entities;
+
+import com.badice.domain.factories.EntityFactory;
+import com.badice.domain.patterns.HorizontalMovementPattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para el índice de ocupación de GameMap.
+ */
+class GameMapTest {
+    private GameMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new GameMap(10, 10, 32);
+    }
+
+    @Test
+    void testSolidEntityBlocksItsCell() {
+        map.addEntity(new Block(new Position(3, 3), "wall"));
+
+        assertTrue(map.isPositionBlocked(new Position(3, 3)));
+        assertFalse(map.isPositionBlocked(new Position(3, 4)));
+    }
+
+    @Test
+    void testIndexFollowsMovement() {
+        Player player = new Player(new Position(1, 1));
+        map.addPlayer(player);
+
+        player.move(Direction.RIGHT);
+
+        assertFalse(map.isPositionBlocked(new Position(1, 1)));
+        assertTrue(map.isPositionBlocked(new Position(2, 1)));
+        assertSame(player, map.getEntityAt(new Position(2, 1)));
+    }
+
+    @Test
+    void testSetPlayerReplacesPreviousPlayers() {
+        Player first = new Player(new Position(1, 1));
+        Player second = new Player(new Position(3, 3));
+        map.addPlayer(first);
+
+        map.setPlayer(second);
+        map.removeEntity(first);
+        map.updateAllEntities();
+
+        assertEquals(1, map.players().size());
+        assertEquals(map.getPlayers().size(), map.players().size());
+        assertSame(second, map.getPlayer());
+        assertFalse(map.isPositionBlocked(new Position(1, 1)));
+    }
+
+    @Test
+    void testDestroyedIceNoLongerBlocks() {
+        IceBlock ice = new IceBlock(new Position(4, 4));
+        map.addEntity(ice);
+
+        ice.destroy();
+
+        assertFalse(map.isPositionBlocked(new Position(4, 4)));
+        assertNull(map.getEntityAt(new Position(4, 4), IceBlock.class));
+    }
+
+    @Test
+    void testRemoveEntityClearsCell() {
+        Block block = new Block(new Position(5, 5), "wall");
+        map.addEntity(block);
+
+        map.removeEntity(block);
+
+        assertFalse(map.isPositionBlocked(new Position(5, 5)));
+        assertNull(map.getEntityAt(new Position(5, 5)));
+    }
+
+    @Test
+    void testBlockedIgnoringFilter() {
+        map.addPlayer(new Player(new Position(2, 2)));
+        map.addEntity(new BasicEnemy(new Position(6, 6), new HorizontalMovementPattern()));
+
+        assertFalse(map.isPositionBlocked(new Position(2, 2), e -> e instanceof Player));
+        assertTrue(map.isPositionBlocked(new Position(6, 6), e -> e instanceof Player));
+    }
+
+    @Test
+    void testTerrainWallsBlockWithoutEntities() {
+        map.setTerrain(EntityFactory.createBorderTerrain(10, 10));
+
+        assertTrue(map.isPositionBlocked(new Position(0, 5)));
+        assertTrue(map.isPositionBlocked(new Position(9, 9), e -> true));
+        assertFalse(map.isPositionBlocked(new Position(5, 5)));
+        assertTrue(map.entities().isEmpty());
+    }
+
+    @Test
+    void testLayersFollowIceLifecycle() {
+        map.setTerrain(EntityFactory.createBorderTerrain(10, 10));
+        IceBlock ice = new IceBlock(new Position(3, 5));
+        map.addEntity(ice);
+        map.addEntity(new IceBlock(new Position(4, 5)));
+
+        assertTrue(map.hasIceAt(new Position(3, 5)));
+        assertEquals(2, map.iceRunLength(new Position(2, 5), Direction.RIGHT));
+        assertEquals(0, map.freeRunLength(new Position(2, 5), Direction.RIGHT));
+        assertEquals(3, map.freeRunLength(new Position(5, 5), Direction.RIGHT));
+        assertEquals(4, map.freeRunLength(new Position(3, 0), Direction.DOWN));
+        assertEquals(8, map.freeRunLength(new Position(6, 9), Direction.UP));
+
+        ice.destroy();
+
+        assertFalse(map.hasIceAt(new Position(3, 5)));
+        assertEquals(1, map.freeRunLength(new Position(2, 5), Direction.RIGHT));
+        assertEquals(1, map.iceRunLength(new Position(5, 5), Direction.LEFT));
+    }
+
+    @Test
+    void testViewSkipsEntitiesRemovedDuringIteration() {
+        Block first = new Block(new Position(1, 1), "wall");
+        Block second = new Block(new Position(2, 1), "wall");
+        map.addEntity(first);
+        map.addEntity(second);
+
+        int visited = 0;
+        for (Block block : map.blocks()) {
+            map.removeEntity(second);
+            visited++;
+        }
+
+        assertEquals(1, visited);
+        assertEquals(1, map.blocks().size());
+        assertEquals(1, map.getBlocks().size());
+
+        map.cleanupInactiveEntities();
+        assertEquals(1, map.entities().size());
+        assertFalse(map.entities().stream().anyMatch(e -> e == second));
+    }
+
+    @Test
+    void testHandlesStayValidAfterSwapRemoval() {
+        IceBlock first = new IceBlock(new Position(1, 1));
+        IceBlock middle = new IceBlock(new Position(2, 1));
+        IceBlock last = new IceBlock(new Position(3, 1));
+        map.addEntity(first);
+        map.addEntity(middle);
+        map.addEntity(last);
+        long middleHandle = middle.handle;
+        long lastHandle = last.handle;
+
+        map.removeEntity(middle);
+        map.cleanupInactiveEntities();
+
+        assertNull(map.getEntity(middleHandle));
+        assertSame(last, map.getEntity(lastHandle));
+        assertEquals(2, map.iceBlocks().size());
+
+        // El hueco se reutiliza con otra generación
+        IceBlock next = new IceBlock(new Position(4, 1));
+        map.addEntity(next);
+        assertNull(map.getEntity(middleHandle));
+        assertSame(next, map.getEntity(next.handle));
+    }
+
+    @Test
+    void testIdsAssignedWhenAdded() {
+        IceBlock a = new IceBlock(new Position(1, 1));
+        IceBlock b = new IceBlock(new Position(1, 1));
+        assertEquals(GameEntity.UNASSIGNED_ID, a.getNumericId());
+        assertNotEquals(a, b);
+
+        map.addEntity(a);
+        map.addEntity(b);
+
+        assertNotEquals(a.getNumericId(), b.getNumericId());
+        assertNotEquals(a, b);
+        assertSame(a, map.getEntity(a.getNumericId()));
+    }
+
+    @Test
+    void testIndexRebuiltAfterDeserialization() throws Exception {
+        map.setTerrain(EntityFactory.createBorderTerrain(10, 10));
+        map.addEntity(new Block(new Position(7, 2), "wall"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        GameMap restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (GameMap) in.readObject();
+        }
+
+        assertTrue(restored.isPositionBlocked(new Position(7, 2)));
+        assertTrue(restored.isTerrainSolid(new Position(0, 0)));
+    }
+
+    @Test
+    void testCrackedIceBreaksOnTimer() {
+        IceBlock ice = new IceBlock(new Position(2, 2));
+        map.addEntity(ice);
+        assertEquals(0, map.getScheduledCount(), "Intact ice needs no timer");
+
+        ice.crack();
+        assertEquals(1, map.getScheduledCount());
+
+        // 300 ms agrietado + 300 ms roto, a 100 ms por tick
+        for (int i = 0; i < 5; i++) {
+            map.getClock().advance();
+            map.updateAllEntities();
+        }
+        assertTrue(ice.isActive());
+        assertEquals(IceBlock.IceState.BROKEN, ice.getState());
+
+        map.getClock().advance();
+        map.updateAllEntities();
+        assertFalse(ice.isActive());
+        assertEquals(0, map.getScheduledCount());
+        assertFalse(map.hasIceAt(new Position(2, 2)));
+    }
+
+    @Test
+    void testOnlyEntitiesWithPerTickBehaviourAreAwake() {
+        map.addEntity(new IceBlock(new Position(1, 1)));
+        map.addEntity(new Block(new Position(2, 1), "wall"));
+        map.addEntity(new BasicFruit(new Position(3, 1), "banana", 100));
+        map.addEntity(new HotTile(new Position(4, 1)));
+        Enemy enemy = new PotEnemy(new Position(5, 5));
+        map.addEntity(enemy);
+
+        assertEquals(1, map.getAwakeCount());
+
+        map.removeEntity(enemy);
+        map.updateAllEntities();
+        assertEquals(0, map.getAwakeCount());
+    }
+
+    @Test
+    void testRandomPositionsFollowTheMapSeed() {
+        GameMap other = new GameMap(10, 10, 32);
+        map.setRandom(new SplittableRandom(99));
+        other.setRandom(new SplittableRandom(99));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(map.findRandomFreePosition(), other.findRandomFreePosition());
+        }
+    }
+}
@@ -58,4 +58,23 @@ class PositionTest {
 
         assertEquals(5.0, pos1.euclideanDistance(pos2), 0.001);
     }
+
+    @Test
+    void testPackedRoundTrip() {
+        Position pos = new Position(-2, 37);
+        int packed = pos.pack();
+
+        assertEquals(-2, PackedPosition.x(packed));
+        assertEquals(37, PackedPosition.y(packed));
+        assertEquals(new Position(-1, 37), PackedPosition.toPosition(PackedPosition.move(packed, Direction.RIGHT)));
+    }
+
+    @Test
+    void testNeighbourCellStaysInsideMap() {
+        int cell = PackedPosition.cellIndex(0, 3, 15, 11);
+
+        assertEquals(45, cell);
+        assertEquals(-1, PackedPosition.neighbourCell(cell, Direction.LEFT, 15, 11));
+        assertEquals(46, PackedPosition.neighbourCell(cell, Direction.RIGHT, 15, 11));
+    }
 }
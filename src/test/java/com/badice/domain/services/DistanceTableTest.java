@@ -0,0 +1,78 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.*;
+import com.badice.domain.factories.EntityFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para DistanceTable: la reparación incremental debe coincidir con una
+ * BFS desde cero.
+ */
+class DistanceTableTest {
+    private GameMap gameMap;
+    private DistanceTable table;
+
+    @BeforeEach
+    void setUp() {
+        gameMap = new GameMap(15, 11, 32);
+        gameMap.setTerrain(EntityFactory.createBorderTerrain(15, 11));
+        table = new DistanceTable();
+        table.attach(gameMap);
+    }
+
+    @Test
+    void testDistanceAroundIce() {
+        int from = cell(2, 5);
+        int to = cell(4, 5);
+        assertEquals(2, table.distance(from, to));
+
+        gameMap.addEntity(new IceBlock(new Position(3, 5)));
+
+        assertEquals(4, table.distance(from, to));
+        assertEquals(DistanceField.UNREACHABLE, table.distance(from, cell(3, 5)));
+    }
+
+    @Test
+    void testIncrementalRepairMatchesFullSearch() {
+        Random random = new Random(7);
+        List<IceBlock> ice = new ArrayList<>();
+        DistanceField reference = new DistanceField();
+        int[] source = new int[1];
+
+        for (int round = 0; round < 60; round++) {
+            // Pocos cambios por ronda para usar la reparación, no la reconstrucción
+            if (!ice.isEmpty() && random.nextBoolean()) {
+                IceBlock block = ice.remove(random.nextInt(ice.size()));
+                block.destroy();
+            } else {
+                Position pos = new Position(1 + random.nextInt(13), 1 + random.nextInt(9));
+                if (!gameMap.isPositionBlocked(pos)) {
+                    IceBlock block = new IceBlock(pos);
+                    gameMap.addEntity(block);
+                    ice.add(block);
+                }
+            }
+
+            int from = cell(1 + random.nextInt(13), 1 + random.nextInt(9));
+            source[0] = from;
+            reference.compute(gameMap, source, gameMap.isObstacleCell(from) ? 0 : 1, gameMap::isObstacleCell);
+            for (int y = 0; y < 11; y++) {
+                for (int x = 0; x < 15; x++) {
+                    assertEquals(reference.distanceAt(new Position(x, y)), table.distance(from, cell(x, y)),
+                            "ronda " + round + " hasta (" + x + "," + y + ")");
+                }
+            }
+        }
+    }
+
+    private int cell(int x, int y) {
+        return y * 15 + x;
+    }
+}
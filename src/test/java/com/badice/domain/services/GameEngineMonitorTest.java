@@ -0,0 +1,53 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.GameMap;
+import com.badice.domain.enums.GameMode;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de las métricas JMX del motor.
+ */
+public class GameEngineMonitorTest {
+
+    @Test
+    public void testRegisteredBetweenStartAndShutdown() throws Exception {
+        GameEngine engine = new GameEngine();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        engine.start();
+        ObjectName name = engine.getMonitor().getObjectName();
+        assertNotNull(name);
+        assertTrue(server.isRegistered(name));
+        assertEquals(0L, server.getAttribute(name, "TickCount"));
+
+        engine.shutdown();
+        assertFalse(server.isRegistered(name));
+        assertNull(engine.getMonitor().getObjectName());
+    }
+
+    @Test
+    public void testTickSamplesEntitiesAndIceCreatedDuringPlay() {
+        GameEngine engine = new GameEngine();
+        engine.startNewGame(GameMode.ONE_PLAYER);
+        GameMap map = engine.getCurrentMap();
+        GameEngineMonitor monitor = engine.getMonitor();
+
+        engine.update();
+        assertEquals(1, monitor.getTickCount());
+        assertEquals(0, monitor.getIceBlocksCreated()); // El hielo del nivel no cuenta
+        assertEquals(map.iceBlocks().size(), monitor.getIceBlockCount());
+        assertEquals(map.entities().size(), monitor.getEntityCount());
+
+        map.addIceBlock(map.findRandomFreePosition());
+        engine.update();
+
+        assertEquals(1, monitor.getIceBlocksCreated());
+        assertEquals(map.iceBlocks().size(), monitor.getIceBlockCount());
+    }
+}
@@ -123,4 +123,17 @@ public class GameEngineTest {
         // Depende del estado del juego
         assertNotNull(gameEngine.getScoreService());
     }
+
+    @Test
+    public void testStepRunsTicksWhilePlaying() {
+        gameEngine.startLevel(1, GameMode.MVM);
+        assertEquals(0, gameEngine.step(10)); // Aún en el menú
+
+        gameEngine.changeState(new com.badice.domain.states.PlayingState());
+        assertEquals(10, gameEngine.step(10));
+        assertEquals(10, gameEngine.getClock().getTicks());
+
+        gameEngine.changeState(new com.badice.domain.states.GameOverState());
+        assertEquals(0, gameEngine.step(10));
+    }
 }
@@ -0,0 +1,48 @@
+package com.badice.domain.services;
+
+import com.badice.domain.enums.GameMode;
+import com.badice.domain.models.FrameSnapshot;
+import com.badice.domain.states.PlayingState;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas para el hilo de simulación.
+ */
+class GameLoopTest {
+
+    @Test
+    void testCommandsRunOnLoopThreadAndFramesArePublished() throws InterruptedException {
+        GameEngine engine = new GameEngine();
+        engine.startNewGame(GameMode.ONE_PLAYER);
+        engine.changeState(new PlayingState());
+        GameLoop loop = new GameLoop(engine, 5);
+
+        CountDownLatch ran = new CountDownLatch(1);
+        Thread[] commandThread = new Thread[1];
+        loop.start();
+        FrameSnapshot first = loop.getLatestFrame();
+        assertNotNull(first, "A frame is published on start");
+        assertTrue(first.hasMap());
+
+        loop.submit(() -> {
+            commandThread[0] = Thread.currentThread();
+            ran.countDown();
+        });
+        assertTrue(ran.await(2, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), commandThread[0]);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (loop.getLatestFrame().getTick() < first.getTick() + 3 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        loop.stop();
+        assertFalse(loop.isRunning());
+        assertTrue(loop.getLatestFrame().getTick() >= first.getTick() + 3);
+        assertFalse(loop.getLatestFrame().getSprites().isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.*;
+import com.badice.domain.factories.EntityFactory;
+import com.badice.domain.patterns.ChaseMovementPattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para NavigationService.
+ */
+class NavigationServiceTest {
+    private GameMap gameMap;
+    private NavigationService navigation;
+
+    @BeforeEach
+    void setUp() {
+        gameMap = new GameMap(10, 10, 32);
+        gameMap.setTerrain(EntityFactory.createBorderTerrain(10, 10));
+        navigation = new NavigationService();
+    }
+
+    @Test
+    void testChaserGoesAroundIce() {
+        gameMap.addPlayer(new Player(new Position(5, 2)));
+        // Hielo entre el enemigo y el jugador, con hueco a la derecha
+        for (int x = 1; x < 8; x++) {
+            gameMap.addEntity(new IceBlock(new Position(x, 4)));
+        }
+        PotEnemy pot = new PotEnemy(new Position(5, 5));
+        gameMap.addEntity(pot);
+
+        navigation.beginTick(gameMap);
+        ChaseMovementPattern pattern = new ChaseMovementPattern();
+        pattern.setNavigation(navigation);
+
+        assertEquals(Direction.RIGHT, pattern.calculateNextDirection(pot, gameMap));
+    }
+
+    @Test
+    void testSquidFieldIgnoresIce() {
+        gameMap.addPlayer(new Player(new Position(5, 2)));
+        for (int x = 1; x < 9; x++) {
+            gameMap.addEntity(new IceBlock(new Position(x, 4)));
+        }
+        navigation.beginTick(gameMap);
+
+        assertNull(navigation.stepTowardsNearestPlayer(new Position(5, 6), false, dir -> true));
+        assertEquals(Direction.UP, navigation.stepTowardsNearestPlayer(new Position(5, 6), true, dir -> true));
+    }
+
+    @Test
+    void testBotStepsTowardsNearestFruitByPath() {
+        gameMap.addEntity(new BasicFruit(new Position(1, 1), "banana", 100));
+        navigation.beginTick(gameMap);
+
+        assertEquals(Direction.UP, navigation.stepTowardsNearestFruit(new Position(1, 3)));
+        assertNull(navigation.stepTowardsNearestFruit(new Position(1, 1)));
+    }
+
+    @Test
+    void testThreatFieldUsesPathDistance() {
+        // Muro de hielo: el enemigo está cerca en línea recta pero lejos por camino
+        for (int y = 1; y < 8; y++) {
+            gameMap.addEntity(new IceBlock(new Position(5, y)));
+        }
+        gameMap.addEntity(new PotEnemy(new Position(4, 2)));
+        navigation.beginTick(gameMap);
+
+        assertEquals(1, navigation.threatDistance(new Position(3, 2)));
+        assertEquals(14, navigation.threatDistance(new Position(6, 2)));
+        assertEquals(Direction.UP, navigation.stepAwayFromThreat(new Position(6, 2),
+                dir -> !gameMap.isObstacle(new Position(6, 2).move(dir))));
+    }
+}
@@ -0,0 +1,83 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.*;
+import com.badice.domain.factories.EntityFactory;
+import com.badice.domain.jfr.PathSearchEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para PathFinder.
+ */
+class PathFinderTest {
+    private GameMap gameMap;
+
+    @BeforeEach
+    void setUp() {
+        // Tamaño del mapa declarado en level1.txt
+        gameMap = new GameMap(40, 37, 32);
+        gameMap.setTerrain(EntityFactory.createBorderTerrain(40, 37));
+    }
+
+    @Test
+    void testFindsPathBeyondDefaultBounds() {
+        Direction step = PathFinder.getNextStep(new Position(30, 30), new Position(35, 30), gameMap);
+
+        assertEquals(Direction.RIGHT, step);
+        assertTrue(PathFinder.isValidMove(new Position(35, 30), gameMap));
+    }
+
+    @Test
+    void testPathGoesAroundIceWall() {
+        // Muro de hielo vertical con un hueco abajo del todo
+        for (int y = 1; y < 35; y++) {
+            gameMap.addEntity(new IceBlock(new Position(20, y)));
+        }
+
+        Direction step = PathFinder.getNextStep(new Position(19, 1), new Position(21, 1), gameMap);
+
+        assertEquals(Direction.DOWN, step);
+    }
+
+    @Test
+    void testNoPathWhenEnclosed() {
+        for (Direction dir : new Direction[] { Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT }) {
+            gameMap.addEntity(new IceBlock(new Position(10, 10).move(dir)));
+        }
+
+        assertNull(PathFinder.getNextStep(new Position(10, 10), new Position(30, 30), gameMap));
+        assertTrue(PathFinder.isBlocked(new Position(10, 9), gameMap));
+    }
+
+    @Test
+    void testSearchEmitsFlightRecorderEvent() throws Exception {
+        List<RecordedEvent> events;
+        Path file = Files.createTempFile("pathsearch", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PathSearchEvent.class);
+            recording.start();
+            PathFinder.getNextStep(new Position(30, 30), new Position(35, 30), gameMap);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        RecordedEvent event = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.badice.PathSearch"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(event.getBoolean("found"));
+        assertEquals(5, event.getInt("pathLength"));
+        assertTrue(event.getInt("expandedNodes") > 5);
+    }
+}
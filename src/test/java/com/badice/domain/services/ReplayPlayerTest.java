@@ -0,0 +1,169 @@
+package com.badice.domain.services;
+
+import com.badice.domain.entities.Direction;
+import com.badice.domain.entities.GameEntity;
+import com.badice.domain.entities.Player;
+import com.badice.domain.enums.BotProfile;
+import com.badice.domain.enums.GameMode;
+import com.badice.domain.factories.BotStrategyFactory;
+import com.badice.domain.models.Replay;
+import com.badice.domain.states.PausedState;
+import com.badice.domain.states.PlayingState;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la grabación y reproducción de repeticiones.
+ */
+public class ReplayPlayerTest {
+    private static final Direction[] SCRIPT = {
+            Direction.RIGHT, Direction.RIGHT, Direction.DOWN, Direction.LEFT, Direction.DOWN, Direction.RIGHT
+    };
+
+    @Test
+    public void testRecordedMatchReplaysToTheSameState() throws IOException {
+        LevelCache levels = new LevelCache();
+        GameEngine engine = new GameEngine(levels, 2024L);
+        ReplayRecorder recorder = new ReplayRecorder(0); // solo entradas, sin fotogramas clave
+        recorder.setBotProfiles(BotProfile.FEARFUL, null);
+        engine.setReplayRecorder(recorder);
+        engine.setBot1Strategy(BotStrategyFactory.create(BotProfile.FEARFUL));
+        engine.startLevel(1, GameMode.PVM);
+        engine.changeState(new PlayingState());
+
+        // Jugador humano con guion fijo, con una pausa a mitad
+        for (int tick = 0; tick < 400 && !engine.getStateManager().isInState(
+                com.badice.domain.states.GameOverState.class); tick++) {
+            if (tick == 150) {
+                engine.changeState(new PausedState(engine.getStateManager().getCurrentState()));
+            } else if (tick == 160) {
+                engine.changeState(((PausedState) engine.getStateManager().getCurrentState()).getPreviousState());
+            }
+            if (tick % 4 == 0) {
+                engine.movePlayer(SCRIPT[tick / 4 % SCRIPT.length], 0);
+            }
+            if (tick % 25 == 0 && !engine.playerDestroyIce(Direction.DOWN, 0)) {
+                engine.playerCreateIce(Direction.DOWN, 0);
+            }
+            engine.update();
+        }
+        Replay replay = engine.getReplay();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        replay.write(new DataOutputStream(bytes));
+        Replay loaded = Replay.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertTrue(bytes.size() < 1024, "la repetición ocupa " + bytes.size() + " bytes");
+
+        ReplayPlayer player = new ReplayPlayer(loaded, levels);
+        player.playToEnd();
+        GameEngine replayed = player.getEngine();
+
+        assertTrue(player.isFinished());
+        assertEquals(engine.getClock().getTicks(), replayed.getClock().getTicks());
+        assertEquals(engine.getScoreService().getCurrentScore(), replayed.getScoreService().getCurrentScore());
+        assertEquals(engine.getCurrentMap().getIceBlocksCreated(), replayed.getCurrentMap().getIceBlocksCreated());
+        List<Player> expected = engine.getCurrentMap().getPlayers();
+        List<Player> actual = replayed.getCurrentMap().getPlayers();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getPosition(), actual.get(i).getPosition());
+            assertEquals(expected.get(i).getScore(), actual.get(i).getScore());
+        }
+    }
+
+    @Test
+    public void testSeekMatchesStraightReplayOnEveryLevel() throws IOException {
+        LevelCache levels = new LevelCache();
+        for (int level = 1; level <= 4; level++) {
+            GameEngine engine = new GameEngine(levels, 77L + level);
+            ReplayRecorder recorder = new ReplayRecorder(50);
+            recorder.setBotProfiles(BotProfile.FEARFUL, BotProfile.FEARFUL);
+            engine.setReplayRecorder(recorder);
+            engine.setBot1Strategy(BotStrategyFactory.create(BotProfile.FEARFUL));
+            engine.setBot2Strategy(BotStrategyFactory.create(BotProfile.FEARFUL));
+            engine.startLevel(level, GameMode.MVM);
+            engine.changeState(new PlayingState());
+            engine.step(1200);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            engine.getReplay().write(new DataOutputStream(bytes));
+            Replay replay = Replay.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            long end = replay.getTicks();
+            assertTrue(replay.getKeyframeCount() > 0, "nivel " + level);
+            assertEquals(50 * replay.getKeyframeCount(), replay.getKeyframeTick(replay.getKeyframeCount() - 1));
+
+            // Hacia delante, hacia atrás, justo en un fotograma clave y al final
+            long[] targets = { end / 4, end / 10, 100, end * 3 / 4, end, 30, end - 1, end / 2 };
+
+            // Referencia: una sola reproducción seguida, sin saltos
+            Map<Long, String> expected = new HashMap<>();
+            ReplayPlayer straight = new ReplayPlayer(replay, levels);
+            for (long target : LongStream.of(targets).sorted().toArray()) {
+                straight.step((int) (target - straight.getTick()));
+                expected.put(target, fingerprint(straight));
+            }
+
+            ReplayPlayer seeking = new ReplayPlayer(replay, levels);
+            for (long target : targets) {
+                seeking.seek(target);
+                assertEquals(expected.get(target), fingerprint(seeking), "nivel " + level + ", tick " + target);
+            }
+        }
+    }
+
+    @Test
+    public void testSeekWithoutKeyframesReplaysFromTheStart() {
+        LevelCache levels = new LevelCache();
+        GameEngine engine = new GameEngine(levels, 5L);
+        ReplayRecorder recorder = new ReplayRecorder(0);
+        recorder.setBotProfiles(BotProfile.FEARFUL, BotProfile.FEARFUL);
+        engine.setReplayRecorder(recorder);
+        engine.setBot1Strategy(BotStrategyFactory.create(BotProfile.FEARFUL));
+        engine.setBot2Strategy(BotStrategyFactory.create(BotProfile.FEARFUL));
+        engine.startLevel(2, GameMode.MVM);
+        engine.changeState(new PlayingState());
+        assertEquals(300, engine.step(300));
+        Replay replay = engine.getReplay();
+        assertEquals(0, replay.getKeyframeCount());
+
+        ReplayPlayer player = new ReplayPlayer(replay, levels);
+        player.seek(200);
+        String atTwoHundred = fingerprint(player);
+        player.seek(50);
+        assertEquals(50, player.getTick());
+        player.seek(200);
+        assertEquals(atTwoHundred, fingerprint(player));
+    }
+
+    // Tick, puntuación y todas las entidades del mapa, en un orden fijo
+    private static String fingerprint(ReplayPlayer player) {
+        GameEngine engine = player.getEngine();
+        List<String> entities = new ArrayList<>();
+        for (GameEntity entity : engine.getCurrentMap().getEntities()) {
+            entities.add(entity.getClass().getSimpleName() + entity.getPosition() + entity.isActive());
+        }
+        entities.sort(null);
+        return player.getTick() + " " + engine.getScoreService().getCurrentScore() + "/"
+                + engine.getScoreService().getFruitsCollected() + " "
+                + engine.getStateManager().getCurrentStateName() + " " + entities;
+    }
+
+    @Test
+    public void testReadRejectsOtherFiles() {
+        byte[] garbage = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+        assertThrows(IOException.class,
+                () -> Replay.read(new DataInputStream(new ByteArrayInputStream(garbage))));
+    }
+}
@@ -0,0 +1,60 @@
+package com.badice.domain.services;
+
+import com.badice.domain.config.LevelConfig;
+import com.badice.domain.enums.GameMode;
+import com.badice.domain.states.PlayingState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del alojamiento de varias partidas en una JVM.
+ */
+public class SessionHostTest {
+
+    @Test
+    public void testLevelCacheSharesOneFrozenConfig() throws Exception {
+        LevelCache levels = new LevelCache();
+
+        LevelConfig first = levels.getLevel(1);
+        LevelConfig second = levels.getLevel(1);
+
+        assertSame(first, second);
+        assertTrue(first.isFrozen());
+        assertThrows(IllegalStateException.class, () -> first.setTotalPhases(9));
+        assertThrows(UnsupportedOperationException.class, () -> first.getPhases().clear());
+    }
+
+    @Test
+    public void testSessionsTickIndependentlyOnSharedScheduler() throws Exception {
+        List<GameSession> sessions = new ArrayList<>();
+        try (SessionHost host = new SessionHost(2, 5, new LevelCache())) {
+            for (int i = 0; i < 20; i++) {
+                sessions.add(host.open(engine -> {
+                    engine.startLevel(1, GameMode.MVM);
+                    engine.changeState(new PlayingState());
+                }, i == 0));
+            }
+            assertEquals(20, host.getSessionCount());
+            assertEquals(1, host.getLevels().size()); // El nivel se leyó una vez
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sessions.stream().anyMatch(s -> s.getTicks() < 5) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(sessions.stream().allMatch(s -> s.getTicks() >= 5));
+            assertNotNull(sessions.get(0).getLatestFrame());
+            assertNull(sessions.get(1).getLatestFrame());
+
+            GameSession closed = sessions.get(1);
+            host.close(closed);
+            long ticks = closed.getTicks();
+            Thread.sleep(50);
+            assertEquals(ticks, closed.getTicks());
+            assertEquals(19, host.getSessionCount());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.badice.domain.services;
+
+import com.badice.domain.enums.GameMode;
+import com.badice.domain.states.PlayingState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas para TickProfiler.
+ */
+class TickProfilerTest {
+
+    @Test
+    void testPercentilesOverWindow() {
+        TickProfiler profiler = new TickProfiler();
+        for (int i = 1; i <= 100; i++) {
+            profiler.record(TickProfiler.Phase.AI, i * 1000L);
+            profiler.endTick(System.nanoTime());
+        }
+
+        TickProfiler.PhaseStats ai = profiler.getStats(TickProfiler.Phase.AI);
+        assertEquals(100, ai.getCount());
+        assertEquals(50_000, ai.getP50());
+        assertEquals(99_000, ai.getP99());
+        assertEquals(100_000, ai.getMax());
+        assertEquals(0, profiler.getStats(TickProfiler.Phase.COLLISIONS).getMax());
+    }
+
+    @Test
+    void testEngineRecordsOnlyWhenEnabled() {
+        GameEngine engine = new GameEngine();
+        engine.startNewGame(GameMode.ONE_PLAYER);
+        engine.changeState(new PlayingState());
+
+        engine.updateEntities();
+        assertEquals(0, engine.getProfiler().getTickCount());
+
+        engine.getProfiler().setEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            engine.updateEntities();
+        }
+        assertEquals(3, engine.getProfiler().getTickCount());
+        assertTrue(engine.getProfiler().getStats(TickProfiler.Phase.TOTAL).getMax() > 0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.badice.presentation.headless;
+
+import com.badice.domain.enums.BotProfile;
+import com.badice.presentation.headless.HeadlessRunner.GameResult;
+import com.badice.presentation.headless.TournamentRunner.Match;
+import com.badice.presentation.headless.TournamentRunner.ProfileStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas del torneo de bots sin ventana.
+ */
+public class TournamentRunnerTest {
+
+    @Test
+    public void testScheduleCoversEveryPairingOnEveryLevel() {
+        int profiles = BotProfile.values().length;
+
+        List<Match> matches = TournamentRunner.schedule(List.of(1, 2), 3);
+
+        assertEquals(3 * 2 * profiles * profiles, matches.size());
+        assertTrue(matches.stream().anyMatch(m -> m.getLevel() == 2
+                && m.getBot1() == BotProfile.EXPERT && m.getBot2() == BotProfile.HUNGRY));
+    }
+
+    @Test
+    public void testMatchesRunInParallelAndCountForBothBots() throws InterruptedException {
+        List<Match> matches = TournamentRunner.schedule(List.of(1), 1);
+
+        List<GameResult> results = TournamentRunner.play(matches, 4, 60);
+        Map<BotProfile, ProfileStats> stats = TournamentRunner.aggregate(matches, results);
+
+        assertEquals(matches.size(), results.size());
+        for (GameResult result : results) {
+            assertTrue(result.getTicks() > 0 && result.getTicks() <= 60);
+        }
+        int games = stats.values().stream().mapToInt(ProfileStats::getGames).sum();
+        assertEquals(2 * matches.size(), games);
+    }
+
+    @Test
+    public void testSameSeedReplaysTheSameTournament() throws InterruptedException {
+        List<Match> matches = TournamentRunner.schedule(List.of(1), 1, 42L);
+
+        List<GameResult> first = TournamentRunner.play(matches, 4, 3000);
+        List<GameResult> second = TournamentRunner.play(TournamentRunner.schedule(List.of(1), 1, 42L), 1, 3000);
+
+        for (int i = 0; i < matches.size(); i++) {
+            assertEquals(first.get(i).toString(), second.get(i).toString());
+        }
+    }
+}